@@ -20,6 +20,7 @@
 package de.florianmichael.viafabricplus.fixes;
 
 import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
+import de.florianmichael.viafabricplus.ViaFabricPlus;
 import de.florianmichael.viafabricplus.event.ChangeProtocolVersionCallback;
 import de.florianmichael.viafabricplus.event.PostGameLoadCallback;
 import de.florianmichael.viafabricplus.fixes.data.EntityDimensionDiff;
@@ -28,11 +29,14 @@ import de.florianmichael.viafabricplus.fixes.versioned.EnchantmentAttributesEmul
 import de.florianmichael.viafabricplus.fixes.versioned.classic.CPEAdditions;
 import de.florianmichael.viafabricplus.fixes.versioned.classic.GridItemSelectionScreen;
 import de.florianmichael.viafabricplus.fixes.versioned.visual.ArmorHudEmulation1_8;
+import de.florianmichael.viafabricplus.fixes.versioned.visual.BedrockTextLayoutCache;
 import de.florianmichael.viafabricplus.fixes.versioned.visual.FootStepParticle1_12_2;
 import de.florianmichael.viafabricplus.injection.access.IClientConnection;
 import de.florianmichael.viafabricplus.protocoltranslator.ProtocolTranslator;
 import de.florianmichael.viafabricplus.settings.impl.BedrockSettings;
 import de.florianmichael.viafabricplus.util.DataCustomPayload;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.ints.Int2ObjectLinkedOpenHashMap;
 import net.minecraft.block.*;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.font.FontStorage;
@@ -49,10 +53,14 @@ import net.raphimc.vialegacy.protocol.classic.c0_30cpetoc0_28_30.data.ClassicPro
 import net.raphimc.vialegacy.protocol.classic.c0_30cpetoc0_28_30.storage.ExtensionProtocolMetadataStorage;
 import org.jetbrains.annotations.ApiStatus;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 /**
@@ -61,9 +69,56 @@ import java.util.function.Consumer;
 public class ClientsideFixes {
 
     /**
-     * Contains all tasks that are waiting for a packet to be received, this system can be used to sync ViaVersion tasks with the correct thread
+     * Contains all registered sync tasks, the index in this list is the id of the task which is sent in the sync packet.
+     * This system can be used to sync ViaVersion tasks with the correct thread
      */
-    private static final Map<String, Consumer<RegistryByteBuf>> PENDING_EXECUTION_TASKS = new ConcurrentHashMap<>();
+    private static final List<Consumer<RegistryByteBuf>> SYNC_TASKS = new CopyOnWriteArrayList<>();
+
+    /**
+     * The time in milliseconds after which a one-time task is dropped if its sync packet never arrived
+     */
+    private static final long PENDING_EXECUTION_TASK_TIMEOUT = 60_000L;
+
+    /**
+     * The maximum amount of one-time tasks waiting at the same time, the oldest task is dropped when this limit is exceeded
+     */
+    private static final int MAX_PENDING_EXECUTION_TASKS = 1024;
+
+    /**
+     * Contains all one-time tasks that are waiting for a packet to be received in insertion order, see {@link #executePendingSyncTask(Consumer)}.
+     * This is only API for addons, ViaFabricPlus itself registers all of its tasks with {@link #registerSyncTask(Consumer)}.
+     * All accesses have to be synchronized on the map itself
+     */
+    private static final Int2ObjectLinkedOpenHashMap<PendingTask> PENDING_EXECUTION_TASKS = new Int2ObjectLinkedOpenHashMap<>();
+
+    private static final AtomicInteger PENDING_EXECUTION_TASK_ID = new AtomicInteger();
+
+    private static final AtomicLong EXPIRED_EXECUTION_TASKS = new AtomicLong();
+
+    /**
+     * Maps the string handles returned by the deprecated {@link #executeSyncTask(Consumer)} to the handles of their one-time tasks
+     */
+    private static final Map<String, Integer> LEGACY_PENDING_EXECUTION_TASKS = new ConcurrentHashMap<>();
+
+    /**
+     * The id of the sync task which executes one-time tasks registered with {@link #executePendingSyncTask(Consumer)}
+     */
+    public static final int PENDING_EXECUTION_SYNC_TASK = registerSyncTask(data -> {
+        final int handle = data.readVarInt();
+        final PendingTask task;
+        synchronized (PENDING_EXECUTION_TASKS) {
+            task = PENDING_EXECUTION_TASKS.remove(handle);
+        }
+        if (task == null) {
+            return;
+        }
+
+        if (task.deadline() < System.currentTimeMillis()) {
+            EXPIRED_EXECUTION_TASKS.incrementAndGet();
+        } else {
+            task.task().accept(data);
+        }
+    });
 
     /**
      * This identifier is an internal identifier used to identify packets that are sent by ViaFabricPlus
@@ -100,6 +155,7 @@ public class ClientsideFixes {
                 storage.glyphRendererCache.clear();
                 storage.glyphCache.clear();
             }
+            BedrockTextLayoutCache.clear();
 
             // Reloads all bounding boxes of the blocks that we changed
             for (Block block : Registries.BLOCK) {
@@ -182,27 +238,125 @@ public class ClientsideFixes {
     }
 
     /**
-     * Executes a sync task and returns the uuid of the task
+     * Registers a sync task which can be executed on the client thread by sending a custom payload with the {@link #PACKET_SYNC_IDENTIFIER} channel,
+     * followed by the id of the task as var int and the data of the task. Tasks should be registered once, e.g. when a protocol is registered.
+     *
+     * @param task The task to execute
+     * @return The id of the task
+     */
+    public static synchronized int registerSyncTask(final Consumer<RegistryByteBuf> task) {
+        SYNC_TASKS.add(task);
+        return SYNC_TASKS.size() - 1;
+    }
+
+    /**
+     * Registers a one-time task and returns its handle, the sync packet has to contain {@link #PENDING_EXECUTION_SYNC_TASK} as task id
+     * followed by the handle as var int. Prefer {@link #registerSyncTask(Consumer)} for tasks which are executed frequently.
+     *
+     * @param task The task to execute
+     * @return The handle of the task
+     */
+    public static int executePendingSyncTask(final Consumer<RegistryByteBuf> task) {
+        return addPendingSyncTask(task, null);
+    }
+
+    /**
+     * Executes a sync task and returns the uuid of the task, the sync packet has to contain the uuid as string instead of a task id.
      *
      * @param task The task to execute
      * @return The uuid of the task
+     * @deprecated Use {@link #registerSyncTask(Consumer)} or {@link #executePendingSyncTask(Consumer)} instead
      */
+    @Deprecated
     public static String executeSyncTask(final Consumer<RegistryByteBuf> task) {
         final String uuid = UUID.randomUUID().toString();
-        PENDING_EXECUTION_TASKS.put(uuid, task);
+        LEGACY_PENDING_EXECUTION_TASKS.put(uuid, addPendingSyncTask(task, uuid));
         return uuid;
     }
 
+    private static int addPendingSyncTask(final Consumer<RegistryByteBuf> task, final String legacyUuid) {
+        final int handle = PENDING_EXECUTION_TASK_ID.getAndIncrement() & Integer.MAX_VALUE;
+        final long now = System.currentTimeMillis();
+        synchronized (PENDING_EXECUTION_TASKS) {
+            // Tasks are stored in insertion order and share the same timeout, so expired tasks are always at the head
+            while (!PENDING_EXECUTION_TASKS.isEmpty() && (PENDING_EXECUTION_TASKS.size() >= MAX_PENDING_EXECUTION_TASKS || PENDING_EXECUTION_TASKS.get(PENDING_EXECUTION_TASKS.firstIntKey()).deadline() < now)) {
+                final PendingTask expiredTask = PENDING_EXECUTION_TASKS.removeFirst();
+                if (expiredTask.legacyUuid() != null) {
+                    LEGACY_PENDING_EXECUTION_TASKS.remove(expiredTask.legacyUuid());
+                }
+                EXPIRED_EXECUTION_TASKS.incrementAndGet();
+            }
+            PENDING_EXECUTION_TASKS.put(handle, new PendingTask(task, now + PENDING_EXECUTION_TASK_TIMEOUT, legacyUuid));
+        }
+        return handle;
+    }
+
+    /**
+     * Drops all one-time tasks which are still waiting for their sync packet, called when the connection is closed
+     */
+    public static void clearPendingSyncTasks() {
+        synchronized (PENDING_EXECUTION_TASKS) {
+            EXPIRED_EXECUTION_TASKS.addAndGet(PENDING_EXECUTION_TASKS.size());
+            PENDING_EXECUTION_TASKS.clear();
+            LEGACY_PENDING_EXECUTION_TASKS.clear();
+        }
+    }
+
+    /**
+     * @return The amount of one-time tasks which were dropped without being executed since the game started
+     */
+    public static long getExpiredSyncTasks() {
+        return EXPIRED_EXECUTION_TASKS.get();
+    }
+
     @ApiStatus.Internal
     public static void handleSyncTask(final PacketByteBuf buf) {
-        final String uuid = buf.readString();
+        if (!LEGACY_PENDING_EXECUTION_TASKS.isEmpty() && handleLegacySyncTask(buf)) {
+            return;
+        }
 
-        if (PENDING_EXECUTION_TASKS.containsKey(uuid)) {
-            MinecraftClient.getInstance().execute(() -> { // Execute the task on the main thread
-                final var task = PENDING_EXECUTION_TASKS.remove(uuid);
-                task.accept(new RegistryByteBuf(buf, MinecraftClient.getInstance().getNetworkHandler().getRegistryManager()));
-            });
+        final int id = buf.readVarInt();
+        if (id < 0 || id >= SYNC_TASKS.size()) {
+            ViaFabricPlus.global().getLogger().error("Received unknown sync task with id " + id + "!");
+            return;
         }
+
+        final Consumer<RegistryByteBuf> task = SYNC_TASKS.get(id);
+        MinecraftClient.getInstance().execute(() -> { // Execute the task on the main thread
+            task.accept(new RegistryByteBuf(buf, MinecraftClient.getInstance().getNetworkHandler().getRegistryManager()));
+        });
+    }
+
+    /**
+     * Sync packets of {@link #executeSyncTask(Consumer)} start with the uuid string, they are only detected if their uuid is still pending
+     */
+    private static boolean handleLegacySyncTask(final PacketByteBuf buf) {
+        final int readerIndex = buf.readerIndex();
+        final String uuid;
+        try {
+            uuid = buf.readString(36);
+        } catch (Exception e) {
+            buf.readerIndex(readerIndex);
+            return false;
+        }
+
+        final Integer handle = LEGACY_PENDING_EXECUTION_TASKS.remove(uuid);
+        if (handle == null) {
+            buf.readerIndex(readerIndex);
+            return false;
+        }
+
+        final PacketByteBuf data = new PacketByteBuf(Unpooled.buffer());
+        data.writeVarInt(handle);
+        data.writeBytes(buf);
+        final Consumer<RegistryByteBuf> task = SYNC_TASKS.get(PENDING_EXECUTION_SYNC_TASK);
+        MinecraftClient.getInstance().execute(() -> { // Execute the task on the main thread
+            task.accept(new RegistryByteBuf(data, MinecraftClient.getInstance().getNetworkHandler().getRegistryManager()));
+        });
+        return true;
+    }
+
+    private record PendingTask(Consumer<RegistryByteBuf> task, long deadline, String legacyUuid) {
     }
 
 }
@@ -0,0 +1,41 @@
+/*
+ * This file is part of ViaFabricPlus - https://github.com/FlorianMichael/ViaFabricPlus
+ * Copyright (C) 2021-2024 FlorianMichael/EnZaXD <florian.michael07@gmail.com> and RK_01/RaphiMC
+ * Copyright (C) 2023-2024 contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.florianmichael.viafabricplus.fixes.data;
+
+import net.minecraft.util.shape.VoxelShape;
+
+/**
+ * The legacy shapes of a block state for the current target version, every shape is null if the vanilla shape should be used.
+ * Instances are immutable, so the shapes of a state are always replaced together when they are baked again on version change.
+ */
+public record LegacyBlockShapes(VoxelShape outlineShape, VoxelShape collisionShape, VoxelShape cameraCollisionShape, VoxelShape sidesShape) {
+
+    /**
+     * @return The shapes or null if all shapes are vanilla shapes
+     */
+    public static LegacyBlockShapes of(final VoxelShape outlineShape, final VoxelShape collisionShape, final VoxelShape cameraCollisionShape, final VoxelShape sidesShape) {
+        if (outlineShape == null && collisionShape == null && cameraCollisionShape == null && sidesShape == null) {
+            return null;
+        } else {
+            return new LegacyBlockShapes(outlineShape, collisionShape, cameraCollisionShape, sidesShape);
+        }
+    }
+
+}
@@ -24,9 +24,11 @@ import de.florianmichael.viafabricplus.protocoltranslator.ProtocolTranslator;
 import net.minecraft.GameVersion;
 import net.minecraft.SaveVersion;
 import net.minecraft.SharedConstants;
+import net.minecraft.client.session.Session;
 import net.minecraft.resource.ResourceType;
 import org.jetbrains.annotations.ApiStatus;
 
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -38,6 +40,11 @@ public class ResourcePackHeaderDiff {
 
     private final static Map<ProtocolVersion, GameVersion> GAME_VERSION_DIFF = new HashMap<>();
 
+    /**
+     * The last resource pack download headers, they only depend on the target version and the session
+     */
+    private static volatile CachedHeaders cachedHeaders;
+
     static {
         registerVersion(ProtocolVersion.v1_21, 34, "1.21");
         registerVersion(ProtocolVersion.v1_20_5, 32, "1.20.6");
@@ -102,6 +109,34 @@ public class ResourcePackHeaderDiff {
         }
     }
 
+    /**
+     * @param version The target version
+     * @param session The session the headers are created for
+     * @return The cached resource pack download headers or null if they haven't been created for the given target version and session yet
+     */
+    public static Map<String, String> getCachedHeaders(final ProtocolVersion version, final Session session) {
+        final CachedHeaders headers = cachedHeaders;
+        if (headers != null && headers.version() == version && headers.session() == session) {
+            return headers.headers();
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Stores the resource pack download headers for the given target version and session
+     *
+     * @param version The target version
+     * @param session The session the headers are created for
+     * @param headers The headers, they must not be modified afterwards
+     * @return An immutable view of the headers which is shared between all requests
+     */
+    public static Map<String, String> cacheHeaders(final ProtocolVersion version, final Session session, final Map<String, String> headers) {
+        final Map<String, String> immutableHeaders = Collections.unmodifiableMap(headers);
+        cachedHeaders = new CachedHeaders(version, session, immutableHeaders);
+        return immutableHeaders;
+    }
+
     private static void registerVersion(final ProtocolVersion version, final int packFormat, final String name) {
         registerVersion(version, packFormat, name, name);
     }
@@ -149,4 +184,7 @@ public class ResourcePackHeaderDiff {
         });
     }
 
+    private record CachedHeaders(ProtocolVersion version, Session session, Map<String, String> headers) {
+    }
+
 }
@@ -0,0 +1,83 @@
+/*
+ * This file is part of ViaFabricPlus - https://github.com/FlorianMichael/ViaFabricPlus
+ * Copyright (C) 2021-2024 FlorianMichael/EnZaXD <florian.michael07@gmail.com> and RK_01/RaphiMC
+ * Copyright (C) 2023-2024 contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.florianmichael.viafabricplus.fixes.versioned;
+
+import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
+import net.minecraft.client.network.AllowedAddressResolver;
+import net.minecraft.client.network.ServerAddress;
+import net.raphimc.vialegacy.api.LegacyProtocolVersion;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Minecraft 1.16.4 and lower resolve SRV records when parsing the server address and send the resolved address in the handshake.
+ * Lookups are blocking DNS queries, so they are only done on the connect/ping threads and the results are cached for a short time.
+ */
+public class SrvRecordCache1_16_4 {
+
+    /**
+     * JNDI doesn't expose the TTL of DNS records, so a fixed duration close to common SRV record TTLs is used instead
+     */
+    private static final long CACHE_DURATION = 5 * 60 * 1000L;
+    private static final int MAX_ENTRIES = 256;
+
+    private static final Map<ServerAddress, Entry> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * @param version The target version
+     * @return true if the given version resolves SRV records when parsing the server address
+     */
+    public static boolean resolvesSrv(final ProtocolVersion version) {
+        return version.olderThanOrEqualTo(ProtocolVersion.v1_16_4) && version.newerThanOrEqualTo(LegacyProtocolVersion.r1_3_1tor1_3_2);
+    }
+
+    /**
+     * Resolves the SRV record of the given address if the version requires it, this call might block and should never be done on the render thread
+     *
+     * @param address The server address
+     * @param version The target version
+     * @return The address the SRV record points to, or the given address if there is none
+     */
+    public static ServerAddress resolve(final ServerAddress address, final ProtocolVersion version) {
+        if (!resolvesSrv(version)) {
+            return address;
+        }
+
+        final long now = System.currentTimeMillis();
+        final Entry entry = CACHE.get(address);
+        if (entry != null && entry.expireTime() > now) {
+            return entry.address();
+        }
+
+        final ServerAddress resolved = AllowedAddressResolver.DEFAULT.redirectResolver.lookupRedirect(address).orElse(address);
+        if (CACHE.size() >= MAX_ENTRIES) {
+            CACHE.values().removeIf(e -> e.expireTime() <= now);
+            if (CACHE.size() >= MAX_ENTRIES) {
+                CACHE.clear();
+            }
+        }
+        CACHE.put(address, new Entry(resolved, now + CACHE_DURATION));
+        return resolved;
+    }
+
+    private record Entry(ServerAddress address, long expireTime) {
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * This file is part of ViaFabricPlus - https://github.com/FlorianMichael/ViaFabricPlus
+ * Copyright (C) 2021-2024 FlorianMichael/EnZaXD <florian.michael07@gmail.com> and RK_01/RaphiMC
+ * Copyright (C) 2023-2024 contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.florianmichael.viafabricplus.fixes.versioned;
+
+/**
+ * Mouse and keyboard screen events which are executed in the client tick instead of the render loop in 1.12.2 and lower,
+ * see {@link de.florianmichael.viafabricplus.settings.impl.DebugSettings#executeInputsSynchronously}. Events of both devices
+ * share one fixed size ring buffer, so they are executed in the order they were received. If a tick receives more events
+ * than the buffer can hold, e.g. because the tick stalled, the queued events are flushed early instead of growing the buffer.
+ */
+public class SyncInputQueue1_12_2 {
+
+    private static final int CAPACITY = 512; // Needs to be a power of two
+
+    private static final Runnable[] EVENTS = new Runnable[CAPACITY];
+    private static int head;
+    private static int size;
+
+    /**
+     * Adds an event to the queue, if the queue is full, all queued events and the event itself are executed immediately
+     * on the calling thread to keep their order
+     *
+     * @param event The event
+     */
+    public static void offer(final Runnable event) {
+        synchronized (SyncInputQueue1_12_2.class) {
+            if (size < CAPACITY) {
+                EVENTS[(head + size) & (CAPACITY - 1)] = event;
+                size++;
+                return;
+            }
+        }
+        drain();
+        event.run();
+    }
+
+    /**
+     * Executes all events which are queued at the time of calling, events which are added while draining are executed in the next tick
+     */
+    public static void drain() {
+        int count;
+        synchronized (SyncInputQueue1_12_2.class) {
+            count = size;
+        }
+        while (count-- > 0) {
+            final Runnable event;
+            synchronized (SyncInputQueue1_12_2.class) {
+                event = EVENTS[head];
+                EVENTS[head] = null;
+                head = (head + 1) & (CAPACITY - 1);
+                size--;
+            }
+            event.run();
+        }
+    }
+
+}
@@ -33,8 +33,28 @@ import java.util.function.BiConsumer;
 
 public class CPEAdditions {
 
-    public final static List<ClassicProtocolExtension> ALLOWED_EXTENSIONS = new ArrayList<>();
-    public final static Map<Integer, ClientboundPacketsc0_30cpe> CUSTOM_PACKETS = new HashMap<>();
+    private final static List<ClassicProtocolExtension> MUTABLE_ALLOWED_EXTENSIONS = new ArrayList<>();
+
+    /**
+     * Read-only view of all allowed extensions in the order they were allowed, new extensions have to be added with {@link #allowExtension}
+     */
+    public final static List<ClassicProtocolExtension> ALLOWED_EXTENSIONS = Collections.unmodifiableList(MUTABLE_ALLOWED_EXTENSIONS);
+
+    /**
+     * Lookup set of {@link #ALLOWED_EXTENSIONS}, kept in sync by {@link #allowExtension}
+     */
+    private final static Set<ClassicProtocolExtension> ALLOWED_EXTENSIONS_LOOKUP = EnumSet.noneOf(ClassicProtocolExtension.class);
+    private final static Map<Integer, ClientboundPacketsc0_30cpe> MUTABLE_CUSTOM_PACKETS = new HashMap<>();
+
+    /**
+     * Read-only view of all custom packets, new packets have to be added with {@link #createNewPacket}
+     */
+    public final static Map<Integer, ClientboundPacketsc0_30cpe> CUSTOM_PACKETS = Collections.unmodifiableMap(MUTABLE_CUSTOM_PACKETS);
+
+    /**
+     * Lookup table of {@link #CUSTOM_PACKETS} indexed by packet id, kept in sync by {@link #createNewPacket}
+     */
+    private final static ClientboundPacketsc0_30cpe[] CUSTOM_PACKETS_BY_ID = new ClientboundPacketsc0_30cpe[256];
 
     public static ClientboundPacketsc0_30cpe EXT_WEATHER_TYPE;
 
@@ -46,6 +66,16 @@ public class CPEAdditions {
         EXT_WEATHER_TYPE = createNewPacket(ClassicProtocolExtension.ENV_WEATHER_TYPE, 31, (user, buf) -> buf.readByte());
     }
 
+    @ApiStatus.Internal
+    public static boolean isExtensionAllowed(final ClassicProtocolExtension classicProtocolExtension) {
+        return ALLOWED_EXTENSIONS_LOOKUP.contains(classicProtocolExtension);
+    }
+
+    @ApiStatus.Internal
+    public static ClientboundPacketsc0_30cpe getCustomPacket(final int packetId) {
+        return packetId >= 0 && packetId < CUSTOM_PACKETS_BY_ID.length ? CUSTOM_PACKETS_BY_ID[packetId] : null;
+    }
+
     @ApiStatus.Internal
     public static boolean isSnowing() {
         return ProtocolTranslator.getTargetVersion().equals(LegacyProtocolVersion.c0_30cpe) && snowing;
@@ -57,13 +87,19 @@ public class CPEAdditions {
     }
 
     public static void allowExtension(final ClassicProtocolExtension classicProtocolExtension) {
-        ALLOWED_EXTENSIONS.add(classicProtocolExtension);
+        if (ALLOWED_EXTENSIONS_LOOKUP.add(classicProtocolExtension)) {
+            MUTABLE_ALLOWED_EXTENSIONS.add(classicProtocolExtension);
+        }
     }
 
     public static ClientboundPacketsc0_30cpe createNewPacket(final ClassicProtocolExtension classicProtocolExtension, final int packetId, final BiConsumer<UserConnection, ByteBuf> packetSplitter) {
+        if (packetId < 0 || packetId >= CUSTOM_PACKETS_BY_ID.length) {
+            throw new IllegalArgumentException("Invalid packet id: " + packetId);
+        }
         final ClientboundPacketsc0_30cpe packet = Enums.newInstance(ClientboundPacketsc0_30cpe.class, classicProtocolExtension.getName(), ClassicProtocolExtension.values().length, new Class[] { int.class, BiConsumer.class }, new Object[] { packetId, packetSplitter });
         Enums.addEnumInstance(ClientboundPacketsc0_30cpe.class, packet);
-        CUSTOM_PACKETS.put(packetId, packet);
+        MUTABLE_CUSTOM_PACKETS.put(packetId, packet);
+        CUSTOM_PACKETS_BY_ID[packetId] = packet;
 
         return packet;
     }
@@ -19,7 +19,9 @@
 
 package de.florianmichael.viafabricplus.fixes.versioned.classic;
 
+import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
 import de.florianmichael.viafabricplus.fixes.data.ItemRegistryDiff;
+import de.florianmichael.viafabricplus.protocoltranslator.ProtocolTranslator;
 import de.florianmichael.viafabricplus.screen.VFPScreen;
 import net.minecraft.client.gui.DrawContext;
 import net.minecraft.item.Item;
@@ -28,9 +30,12 @@ import net.minecraft.item.Items;
 import net.minecraft.registry.Registries;
 import net.minecraft.resource.featuretoggle.FeatureFlags;
 import net.minecraft.util.math.MathHelper;
+import net.raphimc.vialegacy.api.LegacyProtocolVersion;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @SuppressWarnings("DataFlowIssue")
 public class GridItemSelectionScreen extends VFPScreen {
@@ -42,6 +47,8 @@ public class GridItemSelectionScreen extends VFPScreen {
     private static final int SIDE_OFFSET = 15;
     private static final int ITEM_XY_BOX_DIMENSION_MODERN = 16;
 
+    private static final Map<ProtocolVersion, Item[][]> ITEM_GRID_CACHE = new HashMap<>();
+
     public Item[][] itemGrid = null;
     public ItemStack selectedItem = null;
 
@@ -54,6 +61,15 @@ public class GridItemSelectionScreen extends VFPScreen {
         if (itemGrid != null) {
             return;
         }
+        final ProtocolVersion version = ProtocolTranslator.getTargetVersion();
+        if (version.equals(LegacyProtocolVersion.c0_30cpe)) { // Visible items depend on the extensions of the server
+            itemGrid = createItemGrid();
+        } else {
+            itemGrid = ITEM_GRID_CACHE.computeIfAbsent(version, v -> createItemGrid());
+        }
+    }
+
+    private static Item[][] createItemGrid() {
         final List<Item> allowedItems = new ArrayList<>();
         // Calculate all visible items
         for (Item item : Registries.ITEM) {
@@ -63,7 +79,7 @@ public class GridItemSelectionScreen extends VFPScreen {
             }
         }
 
-        itemGrid = new Item[MathHelper.ceil(allowedItems.size() / (double) MAX_ROW_DIVIDER)][MAX_ROW_DIVIDER];
+        final Item[][] itemGrid = new Item[MathHelper.ceil(allowedItems.size() / (double) MAX_ROW_DIVIDER)][MAX_ROW_DIVIDER];
         int x = 0;
         int y = 0;
         for (Item allowedItem : allowedItems) {
@@ -74,6 +90,7 @@ public class GridItemSelectionScreen extends VFPScreen {
                 y++;
             }
         }
+        return itemGrid;
     }
 
     @Override
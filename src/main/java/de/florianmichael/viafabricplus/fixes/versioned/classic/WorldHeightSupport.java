@@ -35,12 +35,18 @@ import net.raphimc.vialegacy.protocol.classic.c0_28_30toa1_0_15.storage.ClassicL
 import org.jetbrains.annotations.ApiStatus;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.List;
 
 @ApiStatus.Internal
 public class WorldHeightSupport {
 
+    private static final ChunkType1_17 CHUNK_TYPE = new ChunkType1_17(16);
+
+    private static final int BIOMES_PER_LAYER = 4 * 4;
+    private static final int BIOMES_PER_SECTION = BIOMES_PER_LAYER * 4;
+
     public static PacketHandler handleJoinGame(final PacketHandler parentHandler) {
         return wrapper -> {
             parentHandler.handle(wrapper);
@@ -73,28 +79,32 @@ public class WorldHeightSupport {
 
             if (wrapper.user().getProtocolInfo().serverProtocolVersion().olderThanOrEqualTo(LegacyProtocolVersion.c0_28toc0_30)) {
                 wrapper.resetReader();
-                final Chunk chunk = wrapper.read(new ChunkType1_17(16));
-                wrapper.write(new ChunkType1_17(chunk.getSections().length), chunk);
-
-                final ClassicWorldHeightProvider heightProvider = Via.getManager().getProviders().get(ClassicWorldHeightProvider.class);
-                if (chunk.getSections().length < heightProvider.getMaxChunkSectionCount(wrapper.user())) { // Increase available sections to match new world height
-                    final ChunkSection[] newArray = new ChunkSection[heightProvider.getMaxChunkSectionCount(wrapper.user())];
-                    System.arraycopy(chunk.getSections(), 0, newArray, 0, chunk.getSections().length);
-                    chunk.setSections(newArray);
+                final Chunk chunk = wrapper.read(CHUNK_TYPE);
+                wrapper.write(CHUNK_TYPE, chunk); // The section count is only used for reading, the chunk mask decides which sections are written
+
+                final int sectionCount = Via.getManager().getProviders().get(ClassicWorldHeightProvider.class).getMaxChunkSectionCount(wrapper.user());
+                final ChunkSection[] sections = chunk.getSections();
+                if (sections.length < sectionCount) { // Increase available sections to match new world height, the new sections stay empty
+                    chunk.setSections(Arrays.copyOf(sections, sectionCount));
                 }
 
-                final BitSet chunkMask = new BitSet();
-                for (int i = 0; i < chunk.getSections().length; i++) {
-                    if (chunk.getSections()[i] != null) chunkMask.set(i);
+                // Only set sections are serialized, so there is no need to expand the mask past the existing sections
+                final BitSet chunkMask = chunk.getChunkMask() != null ? chunk.getChunkMask() : new BitSet(sections.length);
+                chunkMask.clear();
+                for (int i = 0; i < sections.length; i++) {
+                    if (sections[i] != null) chunkMask.set(i);
                 }
                 chunk.setChunkMask(chunkMask);
 
-                final int[] newBiomeData = new int[chunk.getSections().length * 4 * 4 * 4];
-                System.arraycopy(chunk.getBiomeData(), 0, newBiomeData, 0, chunk.getBiomeData().length);
-                for (int i = 64; i < chunk.getSections().length * 4; i++) { // copy top layer of old biome data all the way to max world height
-                    System.arraycopy(chunk.getBiomeData(), chunk.getBiomeData().length - 16, newBiomeData, i * 16, 16);
+                final int[] biomeData = chunk.getBiomeData();
+                final int biomeDataLength = chunk.getSections().length * BIOMES_PER_SECTION;
+                if (biomeData.length < biomeDataLength) {
+                    final int[] newBiomeData = Arrays.copyOf(biomeData, biomeDataLength);
+                    for (int i = biomeData.length; i < biomeDataLength; i += BIOMES_PER_LAYER) { // copy top layer of old biome data all the way to max world height
+                        System.arraycopy(biomeData, biomeData.length - BIOMES_PER_LAYER, newBiomeData, i, BIOMES_PER_LAYER);
+                    }
+                    chunk.setBiomeData(newBiomeData);
                 }
-                chunk.setBiomeData(newBiomeData);
 
                 chunk.setHeightMap(new CompoundTag()); // rip heightmap :(
             }
@@ -0,0 +1,120 @@
+/*
+ * This file is part of ViaFabricPlus - https://github.com/FlorianMichael/ViaFabricPlus
+ * Copyright (C) 2021-2024 FlorianMichael/EnZaXD <florian.michael07@gmail.com> and RK_01/RaphiMC
+ * Copyright (C) 2023-2024 contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.florianmichael.viafabricplus.fixes.versioned.visual;
+
+import net.minecraft.client.font.TextRenderer;
+import net.minecraft.text.OrderedText;
+import net.minecraft.text.StringVisitable;
+import net.minecraft.text.Style;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Bedrock text can contain new lines, which are handled by splitting the text into multiple lines when rendering.
+ * This class caches the split lines and the width of recently rendered multi-line texts, so they don't have to be computed every frame.
+ */
+public class BedrockTextLayoutCache {
+
+    private static final int MAX_ENTRIES = 512;
+
+    /**
+     * Keyed by an immutable copy of the text content, since texts are mutable and their equals/hashCode implementations are deep
+     */
+    private static final Map<Key, Layout> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * @return the layout of the text or null if the text only has a single line
+     */
+    public static Layout getLayout(final TextRenderer textRenderer, final String text, final boolean rightToLeft) {
+        if (text.indexOf('\n') == -1) {
+            return null;
+        }
+        return getLayout(new Key(textRenderer, text, rightToLeft), () -> StringVisitable.plain(rightToLeft ? textRenderer.mirror(text) : text));
+    }
+
+    /**
+     * @return the layout of the text or null if the text only has a single line
+     */
+    public static Layout getLayout(final TextRenderer textRenderer, final StringVisitable text) {
+        final List<Segment> segments = new ArrayList<>();
+        final boolean[] multiLine = new boolean[1];
+        text.visit((style, string) -> {
+            segments.add(new Segment(style, string));
+            multiLine[0] |= string.indexOf('\n') != -1;
+            return Optional.empty();
+        }, Style.EMPTY);
+        if (!multiLine[0]) {
+            return null;
+        }
+        return getLayout(new Key(textRenderer, List.copyOf(segments), false), () -> text);
+    }
+
+    private static Layout getLayout(final Key key, final Supplier<StringVisitable> text) {
+        Layout layout = CACHE.get(key);
+        if (layout == null) {
+            if (CACHE.size() >= MAX_ENTRIES) {
+                CACHE.clear();
+            }
+            layout = Layout.of(key.textRenderer(), text.get());
+            CACHE.put(key, layout);
+        }
+        return layout;
+    }
+
+    /**
+     * Clears the cache, needs to be called when fonts are reloaded
+     */
+    public static void clear() {
+        CACHE.clear();
+    }
+
+    /**
+     * @param content Either the raw string or an immutable list of {@link Segment}s
+     */
+    private record Key(TextRenderer textRenderer, Object content, boolean rightToLeft) {
+    }
+
+    private record Segment(Style style, String text) {
+    }
+
+    /**
+     * @param lines The lines of the text
+     * @param width The width of the longest line
+     */
+    public record Layout(List<OrderedText> lines, int width) {
+
+        private static Layout of(final TextRenderer textRenderer, final StringVisitable text) {
+            final List<OrderedText> lines = textRenderer.wrapLines(text, Integer.MAX_VALUE);
+
+            int width = 0;
+            for (OrderedText line : lines) {
+                width = Math.max(width, textRenderer.getWidth(line));
+            }
+            return new Layout(lines, width);
+        }
+
+    }
+
+}
@@ -36,12 +36,27 @@ import net.minecraft.entity.vehicle.ChestBoatEntity;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
 
+import java.util.List;
+
 /**
  * Minecraft 1.20.2 changed the calculation of the mounted height offset for all entities, this class contains the old
  * values for all entities. This class is used for 1.20.1 and lower.
  */
 public class EntityRidingOffsetsPre1_20_2 {
 
+    private static final Vec3d RAVAGER_OFFSET = new Vec3d(0, 2.1F, 0);
+    private static final Vec3d SNIFFER_OFFSET = new Vec3d(0, 1.8F, 0);
+
+    /**
+     * The mount type of each entity class, so the instanceof chain only has to be evaluated once per class
+     */
+    private static final ClassValue<MountType> MOUNT_TYPES = new ClassValue<>() {
+        @Override
+        protected MountType computeValue(Class<?> type) {
+            return MountType.of(type);
+        }
+    };
+
     /**
      * Returns the mounted height offset for the given entity and passenger. This method is used for 1.20.1 and lower.
      *
@@ -52,84 +67,89 @@ public class EntityRidingOffsetsPre1_20_2 {
     public static Vec3d getMountedHeightOffset(final Entity entity, final Entity passenger) {
         double yOffset = entity.getHeight() * 0.75F;
 
-        if (entity instanceof BoatEntity boatEntity) {
-            if (!boatEntity.hasPassenger(passenger)) return Vec3d.ZERO;
+        switch (MOUNT_TYPES.get(entity.getClass())) {
+            case BOAT -> {
+                final BoatEntity boatEntity = (BoatEntity) entity;
+                if (!boatEntity.hasPassenger(passenger)) return Vec3d.ZERO;
 
-            if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_8)) {
-                yOffset = -0.3F;
-                final double xOffset = MathHelper.cos(boatEntity.getYaw() * MathHelper.PI / 180F);
-                final double zOffset = MathHelper.sin(boatEntity.getYaw() * MathHelper.PI / 180F);
+                if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_8)) {
+                    yOffset = -0.3F;
+                    final double xOffset = MathHelper.cos(boatEntity.getYaw() * MathHelper.PI / 180F);
+                    final double zOffset = MathHelper.sin(boatEntity.getYaw() * MathHelper.PI / 180F);
 
-                return new Vec3d(0.4F * xOffset, yOffset, 0.4F * zOffset);
-            } else {
-                if (boatEntity.isRemoved()) {
-                    yOffset = 0.01F;
+                    return new Vec3d(0.4F * xOffset, yOffset, 0.4F * zOffset);
                 } else {
-                    yOffset = boatEntity.getVariant() == BoatEntity.Type.BAMBOO ? 0.25F : -0.1F;
-                }
-
-                double xOffset = boatEntity instanceof ChestBoatEntity ? 0.15F : 0F;
-                if (boatEntity.getPassengerList().size() > 1) {
-                    final int idx = boatEntity.getPassengerList().indexOf(passenger);
-                    if (idx == 0) {
-                        xOffset = 0.2F;
+                    if (boatEntity.isRemoved()) {
+                        yOffset = 0.01F;
                     } else {
-                        xOffset = -0.6F;
+                        yOffset = boatEntity.getVariant() == BoatEntity.Type.BAMBOO ? 0.25F : -0.1F;
                     }
 
-                    if (passenger instanceof AnimalEntity) xOffset += 0.2F;
-                }
+                    double xOffset = boatEntity instanceof ChestBoatEntity ? 0.15F : 0F;
+                    final List<Entity> passengers = boatEntity.getPassengerList();
+                    if (passengers.size() > 1) {
+                        if (passengers.get(0) == passenger) {
+                            xOffset = 0.2F;
+                        } else {
+                            xOffset = -0.6F;
+                        }
 
-                return new Vec3d(xOffset, yOffset, 0F);
-            }
-        } else if (entity instanceof CamelEntity camelEntity) {
-            if (!camelEntity.hasPassenger(passenger)) return Vec3d.ZERO;
+                        if (passenger instanceof AnimalEntity) xOffset += 0.2F;
+                    }
 
-            final boolean firstPassenger = camelEntity.getPassengerList().indexOf(passenger) == 0;
-            yOffset = camelEntity.getDimensions(camelEntity.isSitting() ? EntityPose.SITTING : EntityPose.STANDING).height() - (camelEntity.isBaby() ? 0.35F : 0.6F);
-            if (camelEntity.isRemoved()) {
-                yOffset = 0.01F;
-            } else {
-                yOffset = camelEntity.getPassengerAttachmentY(firstPassenger, 0F, EntityDimensions.fixed(0F, (float) ((0.375F * camelEntity.getScaleFactor()) + yOffset)), camelEntity.getScaleFactor());
+                    return new Vec3d(xOffset, yOffset, 0F);
+                }
             }
+            case CAMEL -> {
+                final CamelEntity camelEntity = (CamelEntity) entity;
+                if (!camelEntity.hasPassenger(passenger)) return Vec3d.ZERO;
+
+                final List<Entity> passengers = camelEntity.getPassengerList();
+                final boolean firstPassenger = passengers.get(0) == passenger;
+                yOffset = camelEntity.getDimensions(camelEntity.isSitting() ? EntityPose.SITTING : EntityPose.STANDING).height() - (camelEntity.isBaby() ? 0.35F : 0.6F);
+                if (camelEntity.isRemoved()) {
+                    yOffset = 0.01F;
+                } else {
+                    yOffset = camelEntity.getPassengerAttachmentY(firstPassenger, 0F, EntityDimensions.fixed(0F, (float) ((0.375F * camelEntity.getScaleFactor()) + yOffset)), camelEntity.getScaleFactor());
+                }
 
-            double zOffset = 0.5F;
-            if (camelEntity.getPassengerList().size() > 1) {
-                if (!firstPassenger) zOffset = -0.7F;
-                if (passenger instanceof AnimalEntity) zOffset += 0.2F;
-            }
+                double zOffset = 0.5F;
+                if (passengers.size() > 1) {
+                    if (!firstPassenger) zOffset = -0.7F;
+                    if (passenger instanceof AnimalEntity) zOffset += 0.2F;
+                }
 
-            return new Vec3d(0, yOffset, zOffset);
-        } else if (entity instanceof ChickenEntity chickenEntity) {
-            return new Vec3d(0, chickenEntity.getBodyY(0.5D) - chickenEntity.getY(), -0.1F);
-        } else if (entity instanceof EnderDragonEntity enderDragonEntity) {
-            yOffset = enderDragonEntity.body.getHeight();
-        } else if (entity instanceof HoglinEntity hoglinEntity) {
-            yOffset = hoglinEntity.getHeight() - (hoglinEntity.isBaby() ? 0.2F : 0.15F);
-        } else if (entity instanceof LlamaEntity) {
-            return new Vec3d(0, entity.getHeight() * 0.6F, -0.3F);
-        } else if (entity instanceof PhantomEntity) {
-            yOffset = entity.getStandingEyeHeight();
-        } else if (entity instanceof PiglinEntity) {
-            yOffset = entity.getHeight() * 0.92F;
-        } else if (entity instanceof RavagerEntity) {
-            yOffset = 2.1F;
-        } else if (entity instanceof SkeletonHorseEntity) {
-            yOffset -= 0.1875F;
-        } else if (entity instanceof SnifferEntity) {
-            yOffset = 1.8F;
-        } else if (entity instanceof SpiderEntity) {
-            yOffset = entity.getHeight() * 0.5F;
-        } else if (entity instanceof StriderEntity striderEntity) {
-            final float speed = Math.min(0.25F, striderEntity.limbAnimator.getSpeed());
-            final float pos = striderEntity.limbAnimator.getPos();
-            yOffset = striderEntity.getHeight() - 0.19F + (0.12F * MathHelper.cos(pos * 1.5F) * 2F * speed);
-        } else if (entity instanceof ZoglinEntity zoglinEntity) {
-            yOffset = zoglinEntity.getHeight() - (zoglinEntity.isBaby() ? 0.2F : 0.15F);
-        } else if (entity instanceof AbstractDonkeyEntity) {
-            yOffset -= 0.25F;
-        } else if (entity instanceof AbstractMinecartEntity) {
-            yOffset = 0F;
+                return new Vec3d(0, yOffset, zOffset);
+            }
+            case CHICKEN -> {
+                return new Vec3d(0, entity.getBodyY(0.5D) - entity.getY(), -0.1F);
+            }
+            case ENDER_DRAGON -> yOffset = ((EnderDragonEntity) entity).body.getHeight();
+            case HOGLIN -> yOffset = entity.getHeight() - (((HoglinEntity) entity).isBaby() ? 0.2F : 0.15F);
+            case LLAMA -> {
+                return new Vec3d(0, entity.getHeight() * 0.6F, -0.3F);
+            }
+            case PHANTOM -> yOffset = entity.getStandingEyeHeight();
+            case PIGLIN -> yOffset = entity.getHeight() * 0.92F;
+            case RAVAGER -> {
+                return RAVAGER_OFFSET;
+            }
+            case SKELETON_HORSE -> yOffset -= 0.1875F;
+            case SNIFFER -> {
+                return SNIFFER_OFFSET;
+            }
+            case SPIDER -> yOffset = entity.getHeight() * 0.5F;
+            case STRIDER -> {
+                final StriderEntity striderEntity = (StriderEntity) entity;
+                final float speed = Math.min(0.25F, striderEntity.limbAnimator.getSpeed());
+                final float pos = striderEntity.limbAnimator.getPos();
+                yOffset = striderEntity.getHeight() - 0.19F + (0.12F * MathHelper.cos(pos * 1.5F) * 2F * speed);
+            }
+            case ZOGLIN -> yOffset = entity.getHeight() - (((ZoglinEntity) entity).isBaby() ? 0.2F : 0.15F);
+            case DONKEY -> yOffset -= 0.25F;
+            case MINECART -> {
+                return Vec3d.ZERO;
+            }
         }
 
         if (entity instanceof AbstractHorseEntity abstractHorseEntity) {
@@ -182,4 +202,45 @@ public class EntityRidingOffsetsPre1_20_2 {
         return 0D;
     }
 
+    private enum MountType {
+
+        BOAT(BoatEntity.class),
+        CAMEL(CamelEntity.class),
+        CHICKEN(ChickenEntity.class),
+        ENDER_DRAGON(EnderDragonEntity.class),
+        HOGLIN(HoglinEntity.class),
+        LLAMA(LlamaEntity.class),
+        PHANTOM(PhantomEntity.class),
+        PIGLIN(PiglinEntity.class),
+        RAVAGER(RavagerEntity.class),
+        SKELETON_HORSE(SkeletonHorseEntity.class),
+        SNIFFER(SnifferEntity.class),
+        SPIDER(SpiderEntity.class),
+        STRIDER(StriderEntity.class),
+        ZOGLIN(ZoglinEntity.class),
+        DONKEY(AbstractDonkeyEntity.class),
+        MINECART(AbstractMinecartEntity.class),
+        DEFAULT(Entity.class);
+
+        private final Class<?> entityClass;
+
+        MountType(final Class<?> entityClass) {
+            this.entityClass = entityClass;
+        }
+
+        /**
+         * @param type The entity class
+         * @return The first mount type in declaration order the entity class is assignable to
+         */
+        private static MountType of(final Class<?> type) {
+            for (MountType mountType : values()) {
+                if (mountType.entityClass.isAssignableFrom(type)) {
+                    return mountType;
+                }
+            }
+            return DEFAULT;
+        }
+
+    }
+
 }
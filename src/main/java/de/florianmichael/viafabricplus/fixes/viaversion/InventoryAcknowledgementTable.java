@@ -0,0 +1,53 @@
+/*
+ * This file is part of ViaFabricPlus - https://github.com/FlorianMichael/ViaFabricPlus
+ * Copyright (C) 2021-2024 FlorianMichael/EnZaXD <florian.michael07@gmail.com> and RK_01/RaphiMC
+ * Copyright (C) 2023-2024 contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.florianmichael.viafabricplus.fixes.viaversion;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Replacement for the id list of ViaVersion's InventoryAcknowledgements, ids are added on the netty thread and removed
+ * on the client thread. Stores how often every id has been added, so no pending id is ever lost.
+ */
+public class InventoryAcknowledgementTable {
+
+    private final ConcurrentHashMap<Integer, Integer> counts = new ConcurrentHashMap<>();
+
+    public void add(final int id) {
+        counts.merge(id, 1, Integer::sum);
+    }
+
+    /**
+     * @param id The id to remove
+     * @return true if the id was present
+     */
+    public boolean remove(final int id) {
+        while (true) {
+            final Integer count = counts.get(id);
+            if (count == null) {
+                return false;
+            }
+            // Conditional updates, retried if the netty thread changed the count in the meantime
+            if (count == 1 ? counts.remove(id, count) : counts.replace(id, count, count - 1)) {
+                return true;
+            }
+        }
+    }
+
+}
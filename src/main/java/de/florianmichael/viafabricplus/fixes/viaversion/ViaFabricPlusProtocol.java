@@ -30,7 +30,9 @@ import com.viaversion.viaversion.api.type.Types;
 import com.viaversion.viaversion.protocols.v1_20_3to1_20_5.packet.ServerboundPackets1_20_5;
 import com.viaversion.viaversion.protocols.v1_20_5to1_21.packet.ClientboundPackets1_21;
 import com.viaversion.viaversion.util.Key;
+import de.florianmichael.viafabricplus.injection.access.IClientConnection;
 import de.florianmichael.viafabricplus.protocoltranslator.ProtocolTranslator;
+import net.minecraft.network.ClientConnection;
 import net.minecraft.network.packet.BrandCustomPayload;
 import net.minecraft.network.packet.CustomPayload;
 import net.minecraft.network.packet.s2c.custom.DebugGameTestAddMarkerCustomPayload;
@@ -101,6 +103,12 @@ public class ViaFabricPlusProtocol extends AbstractSimpleProtocol {
 
         final ProtocolVersion serverVersion = ProtocolTranslator.getTargetVersion(connection.getChannel());
 
+        final ClientConnection clientConnection = connection.getChannel().attr(ProtocolTranslator.CLIENT_CONNECTION_ATTRIBUTE_KEY).get();
+        if (clientConnection != null && ((IClientConnection) clientConnection).viaFabricPlus$isStatusOnly()) {
+            // Server list pings never reach the play state, so they don't need any of the storages below
+            return;
+        }
+
         // Add storages we need for different fixes here
         if (serverVersion.equals(BedrockProtocolVersion.bedrockLatest)) {
             connection.put(new BedrockJoinGameTracker());
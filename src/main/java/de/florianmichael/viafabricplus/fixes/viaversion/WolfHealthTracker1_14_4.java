@@ -35,4 +35,12 @@ public class WolfHealthTracker1_14_4 implements StorableObject {
         this.healthDataMap.put(entityId, wolfHealth);
     }
 
+    public void removeEntity(final int entityId) {
+        this.healthDataMap.remove(entityId);
+    }
+
+    public void clear() {
+        this.healthDataMap.clear();
+    }
+
 }
@@ -0,0 +1,47 @@
+/*
+ * This file is part of ViaFabricPlus - https://github.com/FlorianMichael/ViaFabricPlus
+ * Copyright (C) 2021-2024 FlorianMichael/EnZaXD <florian.michael07@gmail.com> and RK_01/RaphiMC
+ * Copyright (C) 2023-2024 contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.florianmichael.viafabricplus.injection.access;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.util.shape.VoxelShape;
+
+public interface IAbstractBlock {
+
+    /**
+     * @return the outline shape of the state for the current target version, or null if the vanilla shape should be used
+     */
+    VoxelShape viaFabricPlus$getLegacyOutlineShape(final BlockState state);
+
+    /**
+     * @return the collision shape of the state for the current target version, or null if the vanilla shape should be used
+     */
+    VoxelShape viaFabricPlus$getLegacyCollisionShape(final BlockState state);
+
+    /**
+     * @return the camera collision shape of the state for the current target version, or null if the vanilla shape should be used
+     */
+    VoxelShape viaFabricPlus$getLegacyCameraCollisionShape(final BlockState state);
+
+    /**
+     * @return the sides shape of the state for the current target version, or null if the vanilla shape should be used
+     */
+    VoxelShape viaFabricPlus$getLegacySidesShape(final BlockState state);
+
+}
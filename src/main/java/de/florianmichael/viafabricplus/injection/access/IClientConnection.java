@@ -32,4 +32,7 @@ public interface IClientConnection {
     UserConnection viaFabricPlus$getUserConnection();
     void viaFabricPlus$setUserConnection(final UserConnection userConnection);
 
+    boolean viaFabricPlus$isStatusOnly();
+    void viaFabricPlus$setStatusOnly(final boolean statusOnly);
+
 }
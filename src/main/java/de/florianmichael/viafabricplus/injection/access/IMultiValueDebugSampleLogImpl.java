@@ -26,4 +26,7 @@ public interface IMultiValueDebugSampleLogImpl {
     ProtocolVersion viaFabricPlus$getForcedVersion();
     void viaFabricPlus$setForcedVersion(final ProtocolVersion version);
 
+    boolean viaFabricPlus$isStatusOnly();
+    void viaFabricPlus$setStatusOnly(final boolean statusOnly);
+
 }
@@ -16,13 +16,10 @@
  * You should have received a copy of the GNU General Public License
  * along with this program.  If not, see <http://www.gnu.org/licenses/>.
  */
-
 package de.florianmichael.viafabricplus.injection.access;
 
-import java.util.Queue;
-
-public interface IMouseKeyboard {
+public interface INbtComponent {
 
-    Queue<Runnable> viaFabricPlus$getPendingScreenEvents();
+    Integer viaFabricPlus$getLegacyCount();
 
 }
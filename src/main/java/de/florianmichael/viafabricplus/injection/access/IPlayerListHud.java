@@ -23,4 +23,6 @@ public interface IPlayerListHud {
 
     void viaFabricPlus$setMaxPlayers(final int maxPlayers);
 
+    void viaFabricPlus$markEntriesDirty();
+
 }
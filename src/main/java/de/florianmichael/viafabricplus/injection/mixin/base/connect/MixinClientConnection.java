@@ -83,6 +83,9 @@ public abstract class MixinClientConnection extends SimpleChannelInboundHandler<
     @Unique
     private Cipher viaFabricPlus$decryptionCipher;
 
+    @Unique
+    private boolean viaFabricPlus$statusOnly;
+
 
     @Inject(method = "setCompressionThreshold", at = @At("RETURN"))
     private void reorderCompression(int compressionThreshold, boolean rejectBad, CallbackInfo ci) {
@@ -131,10 +134,18 @@ public abstract class MixinClientConnection extends SimpleChannelInboundHandler<
         }
     }
 
+    @Inject(method = "connect(Ljava/net/InetSocketAddress;ZLnet/minecraft/util/profiler/MultiValueDebugSampleLogImpl;)Lnet/minecraft/network/ClientConnection;", at = @At(value = "INVOKE", target = "Lnet/minecraft/network/ClientConnection;connect(Ljava/net/InetSocketAddress;ZLnet/minecraft/network/ClientConnection;)Lio/netty/channel/ChannelFuture;", shift = At.Shift.BEFORE))
+    private static void markStatusOnly(InetSocketAddress address, boolean useEpoll, MultiValueDebugSampleLogImpl packetSizeLog, CallbackInfoReturnable<ClientConnection> cir, @Local ClientConnection clientConnection) {
+        // The server list pinger marks its PerformanceLog instance, those connections never enter the play state
+        if (packetSizeLog instanceof IMultiValueDebugSampleLogImpl mixinMultiValueDebugSampleLogImpl && mixinMultiValueDebugSampleLogImpl.viaFabricPlus$isStatusOnly()) {
+            ((IClientConnection) clientConnection).viaFabricPlus$setStatusOnly(true);
+        }
+    }
+
     @WrapWithCondition(method = "connect(Ljava/net/InetSocketAddress;ZLnet/minecraft/util/profiler/MultiValueDebugSampleLogImpl;)Lnet/minecraft/network/ClientConnection;", at = @At(value = "INVOKE", target = "Lnet/minecraft/network/ClientConnection;resetPacketSizeLog(Lnet/minecraft/util/profiler/MultiValueDebugSampleLogImpl;)V"))
     private static boolean dontSetPerformanceLog(ClientConnection instance, MultiValueDebugSampleLogImpl packetSizeLog) {
         // We need to restore vanilla behaviour since we use the PerformanceLog as a way to store the target version
-        return !(packetSizeLog instanceof IMultiValueDebugSampleLogImpl mixinMultiValueDebugSampleLogImpl) || mixinMultiValueDebugSampleLogImpl.viaFabricPlus$getForcedVersion() == null;
+        return !(packetSizeLog instanceof IMultiValueDebugSampleLogImpl mixinMultiValueDebugSampleLogImpl) || (mixinMultiValueDebugSampleLogImpl.viaFabricPlus$getForcedVersion() == null && !mixinMultiValueDebugSampleLogImpl.viaFabricPlus$isStatusOnly());
     }
 
     @Inject(method = "connect(Ljava/net/InetSocketAddress;ZLnet/minecraft/network/ClientConnection;)Lio/netty/channel/ChannelFuture;", at = @At("HEAD"))
@@ -200,6 +211,16 @@ public abstract class MixinClientConnection extends SimpleChannelInboundHandler<
         this.viaFabricPlus$userConnection = userConnection;
     }
 
+    @Override
+    public boolean viaFabricPlus$isStatusOnly() {
+        return this.viaFabricPlus$statusOnly;
+    }
+
+    @Override
+    public void viaFabricPlus$setStatusOnly(final boolean statusOnly) {
+        this.viaFabricPlus$statusOnly = statusOnly;
+    }
+
     @Override
     public ProtocolVersion viaFabricPlus$getTargetVersion() {
         return this.viaFabricPlus$serverVersion;
@@ -31,6 +31,9 @@ public abstract class MixinMultiValueDebugSampleLogImpl implements IMultiValueDe
     @Unique
     private ProtocolVersion viaFabricPlus$forcedVersion;
 
+    @Unique
+    private boolean viaFabricPlus$statusOnly;
+
     @Override
     public ProtocolVersion viaFabricPlus$getForcedVersion() {
         return this.viaFabricPlus$forcedVersion;
@@ -41,4 +44,14 @@ public abstract class MixinMultiValueDebugSampleLogImpl implements IMultiValueDe
         this.viaFabricPlus$forcedVersion = version;
     }
 
+    @Override
+    public boolean viaFabricPlus$isStatusOnly() {
+        return this.viaFabricPlus$statusOnly;
+    }
+
+    @Override
+    public void viaFabricPlus$setStatusOnly(boolean statusOnly) {
+        this.viaFabricPlus$statusOnly = statusOnly;
+    }
+
 }
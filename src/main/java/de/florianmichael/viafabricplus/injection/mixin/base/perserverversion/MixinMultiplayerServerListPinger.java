@@ -20,9 +20,12 @@
 package de.florianmichael.viafabricplus.injection.mixin.base.perserverversion;
 
 import com.llamalad7.mixinextras.sugar.Local;
+import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
 import de.florianmichael.viafabricplus.fixes.ClientsideFixes;
+import de.florianmichael.viafabricplus.fixes.versioned.SrvRecordCache1_16_4;
 import de.florianmichael.viafabricplus.injection.access.IMultiValueDebugSampleLogImpl;
 import de.florianmichael.viafabricplus.injection.access.IServerInfo;
+import de.florianmichael.viafabricplus.protocoltranslator.ProtocolTranslator;
 import net.minecraft.client.network.MultiplayerServerListPinger;
 import net.minecraft.client.network.ServerAddress;
 import net.minecraft.client.network.ServerInfo;
@@ -39,22 +42,30 @@ public abstract class MixinMultiplayerServerListPinger {
 
     @Redirect(method = "add", at = @At(value = "INVOKE", target = "Lnet/minecraft/client/network/ServerAddress;parse(Ljava/lang/String;)Lnet/minecraft/client/network/ServerAddress;"))
     private ServerAddress replaceDefaultPort(String address, @Local(argsOnly = true) ServerInfo entry) {
+        final ProtocolVersion forcedVersion = ((IServerInfo) entry).viaFabricPlus$forcedVersion();
+
         // Replace port when pinging the server and the forced version is set
-        return ClientsideFixes.replaceDefaultPort(address, ((IServerInfo) entry).viaFabricPlus$forcedVersion());
+        final ServerAddress serverAddress = ClientsideFixes.replaceDefaultPort(address, forcedVersion);
+
+        // Pinging is done asynchronously, so we can resolve the SRV record here like <= 1.16.4 did while parsing the address
+        return SrvRecordCache1_16_4.resolve(serverAddress, forcedVersion != null ? forcedVersion : ProtocolTranslator.getTargetVersion());
     }
 
     @Redirect(method = "add", at = @At(value = "INVOKE", target = "Lnet/minecraft/network/ClientConnection;connect(Ljava/net/InetSocketAddress;ZLnet/minecraft/util/profiler/MultiValueDebugSampleLogImpl;)Lnet/minecraft/network/ClientConnection;"))
     private ClientConnection setForcedVersion(InetSocketAddress address, boolean useEpoll, MultiValueDebugSampleLogImpl packetSizeLog, @Local(argsOnly = true) ServerInfo serverInfo) {
         final IServerInfo mixinServerInfo = (IServerInfo) serverInfo;
 
-        if (mixinServerInfo.viaFabricPlus$forcedVersion() != null && !mixinServerInfo.viaFabricPlus$passedDirectConnectScreen()) {
-            // We use the PerformanceLog field to store the forced version since it's always null when pinging a server
-            // So we can create a dummy instance, store the forced version in it and later destroy the instance again
-            // To avoid any side effects, we also support cases where a mod is also creating a PerformanceLog instance
-            if (packetSizeLog == null) {
-                packetSizeLog = new MultiValueDebugSampleLogImpl(1);
-            }
+        // We use the PerformanceLog field to store the forced version and the status-only flag since it's always null when pinging a server
+        // So we can create a dummy instance, store the data in it and later destroy the instance again
+        // To avoid any side effects, we also support cases where a mod is also creating a PerformanceLog instance
+        if (packetSizeLog == null) {
+            packetSizeLog = new MultiValueDebugSampleLogImpl(1);
+        }
+
+        // Mark the connection as status-only, it's only used for pinging and never enters the play state
+        ((IMultiValueDebugSampleLogImpl) packetSizeLog).viaFabricPlus$setStatusOnly(true);
 
+        if (mixinServerInfo.viaFabricPlus$forcedVersion() != null && !mixinServerInfo.viaFabricPlus$passedDirectConnectScreen()) {
             // Attach the forced version to the PerformanceLog instance
             ((IMultiValueDebugSampleLogImpl) packetSizeLog).viaFabricPlus$setForcedVersion(mixinServerInfo.viaFabricPlus$forcedVersion());
             mixinServerInfo.viaFabricPlus$passDirectConnectScreen(false);
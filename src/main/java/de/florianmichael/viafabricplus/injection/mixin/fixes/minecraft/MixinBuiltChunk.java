@@ -20,21 +20,37 @@
 package de.florianmichael.viafabricplus.injection.mixin.fixes.minecraft;
 
 import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
+import de.florianmichael.viafabricplus.injection.access.IBuiltChunk;
 import de.florianmichael.viafabricplus.protocoltranslator.ProtocolTranslator;
 import net.minecraft.client.render.chunk.ChunkBuilder;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 @Mixin(ChunkBuilder.BuiltChunk.class)
-public abstract class MixinBuiltChunk {
+public abstract class MixinBuiltChunk implements IBuiltChunk {
 
-    @Inject(method = "shouldBuild", at = @At("HEAD"), cancellable = true)
+    /**
+     * Written by the section occlusion graph, which may run on worker threads, and read by the render thread
+     */
+    @Unique
+    private volatile boolean viaFabricPlus$builtEarly;
+
+    @Inject(method = "shouldBuild", at = @At("RETURN"), cancellable = true)
     private void modifyRenderCondition(CallbackInfoReturnable<Boolean> cir) {
-        if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_8)) {
+        // Sections are always part of the visibility graph in <= 1.8, but the world renderer limits how many of the
+        // sections vanilla would have waited for are built per frame
+        this.viaFabricPlus$builtEarly = !cir.getReturnValueZ() && ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_8);
+        if (this.viaFabricPlus$builtEarly) {
             cir.setReturnValue(true);
         }
     }
 
+    @Override
+    public boolean viaFabricPlus$isBuiltEarly() {
+        return this.viaFabricPlus$builtEarly;
+    }
+
 }
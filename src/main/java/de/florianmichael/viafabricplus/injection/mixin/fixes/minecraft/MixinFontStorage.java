@@ -20,6 +20,7 @@
 package de.florianmichael.viafabricplus.injection.mixin.fixes.minecraft;
 
 import de.florianmichael.viafabricplus.fixes.data.RenderableGlyphDiff;
+import de.florianmichael.viafabricplus.fixes.versioned.visual.BedrockTextLayoutCache;
 import de.florianmichael.viafabricplus.fixes.versioned.visual.BuiltinEmptyGlyph1_12_2;
 import de.florianmichael.viafabricplus.settings.impl.VisualSettings;
 import net.minecraft.client.MinecraftClient;
@@ -56,6 +57,11 @@ public abstract class MixinFontStorage {
         this.viaFabricPlus$blankGlyphRenderer1_12_2 = BuiltinEmptyGlyph1_12_2.INSTANCE.bake(this::getGlyphRenderer);
     }
 
+    @Inject(method = "clear", at = @At("RETURN"))
+    private void clearTextLayoutCache(CallbackInfo ci) {
+        BedrockTextLayoutCache.clear();
+    }
+
     @Inject(method = "findGlyph", at = @At("RETURN"), cancellable = true)
     private void filterGlyphs(int codePoint, CallbackInfoReturnable<FontStorage.GlyphPair> cir) {
         if (this.viaFabricPlus$shouldBeInvisible(codePoint)) {
@@ -27,12 +27,10 @@ import com.viaversion.viaversion.api.type.Types;
 import com.viaversion.viaversion.protocols.v1_11_1to1_12.Protocol1_11_1To1_12;
 import com.viaversion.viaversion.protocols.v1_9_1to1_9_3.packet.ServerboundPackets1_9_3;
 import de.florianmichael.viafabricplus.fixes.data.ItemRegistryDiff;
-import de.florianmichael.viafabricplus.injection.access.IMouseKeyboard;
+import de.florianmichael.viafabricplus.fixes.versioned.SyncInputQueue1_12_2;
 import de.florianmichael.viafabricplus.protocoltranslator.ProtocolTranslator;
 import de.florianmichael.viafabricplus.settings.impl.DebugSettings;
-import net.minecraft.client.Keyboard;
 import net.minecraft.client.MinecraftClient;
-import net.minecraft.client.Mouse;
 import net.minecraft.client.network.ClientPlayerEntity;
 import net.minecraft.client.network.ClientPlayerInteractionManager;
 import net.minecraft.entity.player.PlayerInventory;
@@ -40,7 +38,6 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.util.ActionResult;
 import net.minecraft.util.Hand;
 import org.jetbrains.annotations.Nullable;
-import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
@@ -50,8 +47,6 @@ import org.spongepowered.asm.mixin.injection.Slice;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
-import java.util.Queue;
-
 @Mixin(MinecraftClient.class)
 public abstract class MixinMinecraftClient {
 
@@ -62,14 +57,6 @@ public abstract class MixinMinecraftClient {
     @Shadow
     protected int attackCooldown;
 
-    @Shadow
-    @Final
-    public Mouse mouse;
-
-    @Shadow
-    @Final
-    public Keyboard keyboard;
-
     @Redirect(method = "doItemPick", at = @At(value = "INVOKE", target = "Lnet/minecraft/entity/player/PlayerInventory;addPickBlock(Lnet/minecraft/item/ItemStack;)V"))
     private void filterItem(PlayerInventory instance, ItemStack stack) {
         if (ItemRegistryDiff.keepItem(stack.getItem())) {
@@ -111,11 +98,7 @@ public abstract class MixinMinecraftClient {
     )
     private void processInputQueues(CallbackInfo ci) {
         if (DebugSettings.global().executeInputsSynchronously.isEnabled()) {
-            Queue<Runnable> inputEvents = ((IMouseKeyboard) this.mouse).viaFabricPlus$getPendingScreenEvents();
-            while (!inputEvents.isEmpty()) inputEvents.poll().run();
-
-            inputEvents = ((IMouseKeyboard) this.keyboard).viaFabricPlus$getPendingScreenEvents();
-            while (!inputEvents.isEmpty()) inputEvents.poll().run();
+            SyncInputQueue1_12_2.drain();
         }
     }
 
@@ -22,7 +22,7 @@ package de.florianmichael.viafabricplus.injection.mixin.fixes.minecraft;
 import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
 import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
 import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
-import de.florianmichael.viafabricplus.injection.access.IMouseKeyboard;
+import de.florianmichael.viafabricplus.fixes.versioned.SyncInputQueue1_12_2;
 import de.florianmichael.viafabricplus.protocoltranslator.ProtocolTranslator;
 import de.florianmichael.viafabricplus.protocoltranslator.util.MathUtil;
 import de.florianmichael.viafabricplus.settings.impl.DebugSettings;
@@ -32,27 +32,20 @@ import net.minecraft.client.option.SimpleOption;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
-import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Redirect;
 
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
-
 @Mixin(Mouse.class)
-public abstract class MixinMouse implements IMouseKeyboard {
+public abstract class MixinMouse {
 
     @Shadow
     @Final
     private MinecraftClient client;
 
-    @Unique
-    private final Queue<Runnable> viaFabricPlus$pendingScreenEvents = new ConcurrentLinkedQueue<>();
-
     @Redirect(method = {"method_22684", "method_22685"}, at = @At(value = "INVOKE", target = "Lnet/minecraft/client/MinecraftClient;execute(Ljava/lang/Runnable;)V"))
     private void storeEvent(MinecraftClient instance, Runnable runnable) {
         if (this.client.getNetworkHandler() != null && this.client.currentScreen != null && DebugSettings.global().executeInputsSynchronously.isEnabled()) {
-            this.viaFabricPlus$pendingScreenEvents.offer(runnable);
+            SyncInputQueue1_12_2.offer(runnable);
         } else {
             instance.execute(runnable);
         }
@@ -69,9 +62,4 @@ public abstract class MixinMouse implements IMouseKeyboard {
         }
     }
 
-    @Override
-    public Queue<Runnable> viaFabricPlus$getPendingScreenEvents() {
-        return this.viaFabricPlus$pendingScreenEvents;
-    }
-
 }
@@ -23,6 +23,7 @@ import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
 import de.florianmichael.viafabricplus.fixes.data.ResourcePackHeaderDiff;
 import de.florianmichael.viafabricplus.protocoltranslator.ProtocolTranslator;
 import net.minecraft.GameVersion;
+import net.minecraft.client.MinecraftClient;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
@@ -35,6 +36,14 @@ import java.util.Map;
 @Mixin(targets = "net.minecraft.client.resource.server.ServerResourcePackLoader$4")
 public abstract class MixinServerResourcePackLoader_4 {
 
+    @Inject(method = "getHeaders", at = @At("HEAD"), cancellable = true)
+    private void useCachedHeaders(CallbackInfoReturnable<Map<String, String>> cir) {
+        final Map<String, String> headers = ResourcePackHeaderDiff.getCachedHeaders(ProtocolTranslator.getTargetVersion(), MinecraftClient.getInstance().getSession());
+        if (headers != null) {
+            cir.setReturnValue(headers);
+        }
+    }
+
     @Redirect(method = "getHeaders", at = @At(value = "INVOKE", target = "Lnet/minecraft/SharedConstants;getGameVersion()Lnet/minecraft/GameVersion;"))
     private GameVersion editHeaders() {
         return ResourcePackHeaderDiff.get(ProtocolTranslator.getTargetVersion());
@@ -42,15 +51,16 @@ public abstract class MixinServerResourcePackLoader_4 {
 
     @Inject(method = "getHeaders", at = @At("TAIL"), cancellable = true)
     private void removeHeaders(CallbackInfoReturnable<Map<String, String>> cir) {
+        final ProtocolVersion targetVersion = ProtocolTranslator.getTargetVersion();
         final LinkedHashMap<String, String> modifiableMap = new LinkedHashMap<>(cir.getReturnValue());
-        if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_14_3)) {
+        if (targetVersion.olderThanOrEqualTo(ProtocolVersion.v1_14_3)) {
             modifiableMap.remove("X-Minecraft-Version-ID");
-            if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_12_2)) {
+            if (targetVersion.olderThanOrEqualTo(ProtocolVersion.v1_12_2)) {
                 modifiableMap.remove("X-Minecraft-Pack-Format");
                 modifiableMap.remove("User-Agent");
             }
         }
-        cir.setReturnValue(modifiableMap);
+        cir.setReturnValue(ResourcePackHeaderDiff.cacheHeaders(targetVersion, MinecraftClient.getInstance().getSession(), modifiableMap));
     }
 
 }
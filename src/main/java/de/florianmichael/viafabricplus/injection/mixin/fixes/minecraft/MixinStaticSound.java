@@ -32,6 +32,7 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 import javax.sound.sampled.AudioFormat;
 import java.nio.ByteBuffer;
+import java.nio.ShortBuffer;
 
 @Mixin(StaticSound.class)
 public abstract class MixinStaticSound {
@@ -52,50 +53,22 @@ public abstract class MixinStaticSound {
         if (byteBuffer == null) {
             return;
         }
-        if (this.format.getChannels() == 1) {
-            this.viaFabricPlus$apply8BitMono(byteBuffer);
-        } else {
-            this.viaFabricPlus$apply8BitStereo(byteBuffer);
-        }
-    }
-
-    @Unique
-    private void viaFabricPlus$apply8BitMono(final ByteBuffer byteBuffer) {
-        short short2 = 0;
-        int integer3 = 0;
-        while (byteBuffer.hasRemaining()) {
-            if (integer3 == 0) {
-                byteBuffer.mark();
-                short2 = (short) (byteBuffer.getShort() & 0xFFFFFFFC);
-                byteBuffer.reset();
-                integer3 = 15;
-            } else {
-                --integer3;
-            }
-            byteBuffer.putShort(short2);
-        }
-        byteBuffer.flip();
-    }
+        // Work on a short view of the sample buffer, this doesn't change the position of the buffer itself
+        final ShortBuffer samples = byteBuffer.asShortBuffer();
+        final int channels = this.format.getChannels() == 1 ? 1 : 2;
+        final int length = samples.limit() - samples.limit() % channels;
+        final int blockLength = 16 * channels;
 
-    @Unique
-    private void viaFabricPlus$apply8BitStereo(final ByteBuffer byteBuffer) {
-        short short2 = 0;
-        short short3 = 0;
-        int integer4 = 0;
-        while (byteBuffer.hasRemaining()) {
-            if (integer4 == 0) {
-                byteBuffer.mark();
-                short2 = (short) (byteBuffer.getShort() & 0xFFFFFFFC);
-                short3 = (short) (byteBuffer.getShort() & 0xFFFFFFFC);
-                byteBuffer.reset();
-                integer4 = 15;
-            } else {
-                --integer4;
+        // Every 16th frame is reduced to 14 bits and held for the following 15 frames
+        for (int block = 0; block < length; block += blockLength) {
+            final int end = Math.min(block + blockLength, length);
+            for (int channel = 0; channel < channels; channel++) {
+                final short sample = (short) (samples.get(block + channel) & 0xFFFFFFFC);
+                for (int i = block + channel; i < end; i += channels) {
+                    samples.put(i, sample);
+                }
             }
-            byteBuffer.putShort(short2);
-            byteBuffer.putShort(short3);
         }
-        byteBuffer.flip();
     }
 
 }
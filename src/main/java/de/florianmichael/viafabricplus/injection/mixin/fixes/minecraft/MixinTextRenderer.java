@@ -19,6 +19,7 @@
 
 package de.florianmichael.viafabricplus.injection.mixin.fixes.minecraft;
 
+import de.florianmichael.viafabricplus.fixes.versioned.visual.BedrockTextLayoutCache;
 import de.florianmichael.viafabricplus.protocoltranslator.ProtocolTranslator;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.font.TextRenderer;
@@ -26,7 +27,6 @@ import net.minecraft.client.render.VertexConsumerProvider;
 import net.minecraft.text.OrderedText;
 import net.minecraft.text.StringVisitable;
 import net.minecraft.text.Text;
-import net.minecraft.util.math.MathHelper;
 import net.raphimc.viabedrock.api.BedrockProtocolVersion;
 import org.joml.Matrix4f;
 import org.spongepowered.asm.mixin.Final;
@@ -41,15 +41,9 @@ import java.util.List;
 @Mixin(TextRenderer.class)
 public abstract class MixinTextRenderer {
 
-    @Shadow
-    public abstract List<OrderedText> wrapLines(StringVisitable text, int width);
-
     @Shadow
     public abstract int draw(OrderedText text, float x, float y, int color, boolean shadow, Matrix4f matrix, VertexConsumerProvider vertexConsumers, TextRenderer.TextLayerType layerType, int backgroundColor, int light);
 
-    @Shadow
-    public abstract String mirror(String text);
-
     @Shadow
     @Final
     public int fontHeight;
@@ -57,17 +51,15 @@ public abstract class MixinTextRenderer {
     @Shadow
     protected abstract int drawInternal(OrderedText text, float x, float y, int color, boolean shadow, Matrix4f matrix, VertexConsumerProvider vertexConsumers, TextRenderer.TextLayerType layerType, int backgroundColor, int light);
 
-    @Shadow
-    public abstract int getWidth(OrderedText text);
-
     @Inject(method = "draw(Ljava/lang/String;FFIZLorg/joml/Matrix4f;Lnet/minecraft/client/render/VertexConsumerProvider;Lnet/minecraft/client/font/TextRenderer$TextLayerType;IIZ)I", at = @At("HEAD"), cancellable = true)
     private void allowNewLines_String(String text, float x, float y, int color, boolean shadow, Matrix4f matrix, VertexConsumerProvider vertexConsumers, TextRenderer.TextLayerType layerType, int backgroundColor, int light, boolean rightToLeft, CallbackInfoReturnable<Integer> cir) {
         if (ProtocolTranslator.getTargetVersion() == BedrockProtocolVersion.bedrockLatest) {
-            final List<OrderedText> lines = wrapLines(StringVisitable.plain(rightToLeft ? this.mirror(text) : text), Integer.MAX_VALUE);
-            if (lines.size() > 1) {
+            final BedrockTextLayoutCache.Layout layout = BedrockTextLayoutCache.getLayout((TextRenderer) (Object) this, text, rightToLeft);
+            if (layout != null && layout.lines().size() > 1) {
+                final List<OrderedText> lines = layout.lines();
                 int offsetX = 0;
                 for (int i = 0; i < lines.size(); i++) {
-                    offsetX = this.drawInternal(lines.get(i), x, y - (lines.size() * (fontHeight + 2)) + (i * (fontHeight + 2)), color, shadow, new Matrix4f(matrix), vertexConsumers, layerType, backgroundColor, light);
+                    offsetX = this.drawInternal(lines.get(i), x, y - (lines.size() * (fontHeight + 2)) + (i * (fontHeight + 2)), color, shadow, matrix, vertexConsumers, layerType, backgroundColor, light);
                 }
                 cir.setReturnValue(offsetX);
             }
@@ -77,11 +69,12 @@ public abstract class MixinTextRenderer {
     @Inject(method = "draw(Lnet/minecraft/text/Text;FFIZLorg/joml/Matrix4f;Lnet/minecraft/client/render/VertexConsumerProvider;Lnet/minecraft/client/font/TextRenderer$TextLayerType;II)I", at = @At("HEAD"), cancellable = true)
     private void allowNewLines_Text(Text text, float x, float y, int color, boolean shadow, Matrix4f matrix, VertexConsumerProvider vertexConsumers, TextRenderer.TextLayerType layerType, int backgroundColor, int light, CallbackInfoReturnable<Integer> cir) {
         if (ProtocolTranslator.getTargetVersion() == BedrockProtocolVersion.bedrockLatest) {
-            final List<OrderedText> lines = wrapLines(text, Integer.MAX_VALUE);
-            if (lines.size() > 1) {
+            final BedrockTextLayoutCache.Layout layout = BedrockTextLayoutCache.getLayout((TextRenderer) (Object) this, text);
+            if (layout != null && layout.lines().size() > 1) {
+                final List<OrderedText> lines = layout.lines();
                 int offsetX = 0;
                 for (int i = 0; i < lines.size(); i++) {
-                    offsetX = this.draw(lines.get(i), x, y - (lines.size() * (fontHeight + 2)) + (i * (fontHeight + 2)), color, shadow, new Matrix4f(matrix), vertexConsumers, layerType, backgroundColor, light);
+                    offsetX = this.draw(lines.get(i), x, y - (lines.size() * (fontHeight + 2)) + (i * (fontHeight + 2)), color, shadow, matrix, vertexConsumers, layerType, backgroundColor, light);
                 }
                 cir.setReturnValue(offsetX);
             }
@@ -91,11 +84,10 @@ public abstract class MixinTextRenderer {
     @Inject(method = "getWidth(Lnet/minecraft/text/StringVisitable;)I", at = @At("HEAD"), cancellable = true)
     private void allowNewLines_getWidth(StringVisitable text, CallbackInfoReturnable<Integer> cir) {
         if (MinecraftClient.getInstance().world != null && ProtocolTranslator.getTargetVersion() == BedrockProtocolVersion.bedrockLatest) {
-            int i = 0;
-            for (OrderedText wrapLine : this.wrapLines(text, Integer.MAX_VALUE)) {
-                if (getWidth(wrapLine) >= i) i = getWidth(wrapLine);
+            final BedrockTextLayoutCache.Layout layout = BedrockTextLayoutCache.getLayout((TextRenderer) (Object) this, text);
+            if (layout != null) {
+                cir.setReturnValue(layout.width());
             }
-            cir.setReturnValue(MathHelper.ceil(i));
         }
     }
 
@@ -19,17 +19,62 @@
 
 package de.florianmichael.viafabricplus.injection.mixin.fixes.minecraft;
 
+import com.llamalad7.mixinextras.injector.v2.WrapWithCondition;
 import de.florianmichael.viafabricplus.fixes.versioned.classic.CPEAdditions;
+import de.florianmichael.viafabricplus.injection.access.IBuiltChunk;
+import net.minecraft.client.render.Camera;
 import net.minecraft.client.render.WorldRenderer;
+import net.minecraft.client.render.chunk.ChunkBuilder;
+import net.minecraft.client.render.chunk.ChunkRendererRegionBuilder;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.biome.Biome;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 @Mixin(WorldRenderer.class)
 public abstract class MixinWorldRenderer {
 
+    /**
+     * The amount of sections without loaded neighbours which are scheduled for building per frame in <= 1.8
+     */
+    @Unique
+    private static final int viaFabricPlus$MAX_EARLY_BUILDS_PER_FRAME = 16;
+
+    @Unique
+    private int viaFabricPlus$remainingEarlyBuilds;
+
+    @Unique
+    private boolean viaFabricPlus$deferredRebuild;
+
+    @Inject(method = "updateChunks", at = @At("HEAD"))
+    private void resetEarlyBuildBudget(Camera camera, CallbackInfo ci) {
+        this.viaFabricPlus$remainingEarlyBuilds = viaFabricPlus$MAX_EARLY_BUILDS_PER_FRAME;
+    }
+
+    @WrapWithCondition(method = "updateChunks", at = @At(value = "INVOKE", target = "Lnet/minecraft/client/render/chunk/ChunkBuilder$BuiltChunk;scheduleRebuild(Lnet/minecraft/client/render/chunk/ChunkBuilder;Lnet/minecraft/client/render/chunk/ChunkRendererRegionBuilder;)V"))
+    private boolean limitEarlyBuilds(ChunkBuilder.BuiltChunk instance, ChunkBuilder chunkBuilder, ChunkRendererRegionBuilder builder) {
+        // Sections are visited nearest first and only if they passed frustum and occlusion culling, sections without
+        // loaded neighbours over the budget stay dirty and are retried in the next frame
+        if (((IBuiltChunk) instance).viaFabricPlus$isBuiltEarly() && this.viaFabricPlus$remainingEarlyBuilds-- <= 0) {
+            this.viaFabricPlus$deferredRebuild = true;
+            return false;
+        }
+        return true;
+    }
+
+    @WrapWithCondition(method = "updateChunks", at = @At(value = "INVOKE", target = "Lnet/minecraft/client/render/chunk/ChunkBuilder$BuiltChunk;cancelRebuild()V"))
+    private boolean keepDeferredRebuild(ChunkBuilder.BuiltChunk instance) {
+        if (this.viaFabricPlus$deferredRebuild) {
+            this.viaFabricPlus$deferredRebuild = false;
+            return false;
+        }
+        return true;
+    }
+
     @Redirect(method = "renderWeather", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/biome/Biome;getPrecipitation(Lnet/minecraft/util/math/BlockPos;)Lnet/minecraft/world/biome/Biome$Precipitation;"), require = 0)
     private Biome.Precipitation forceSnow(Biome instance, BlockPos pos) {
         if (CPEAdditions.isSnowing()) {
@@ -19,11 +19,13 @@
 
 package de.florianmichael.viafabricplus.injection.mixin.fixes.minecraft.block;
 
+import de.florianmichael.viafabricplus.injection.access.IAbstractBlock;
 import de.florianmichael.viafabricplus.settings.impl.DebugSettings;
 import net.minecraft.block.AbstractBlock;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.shape.VoxelShape;
 import net.minecraft.world.BlockView;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
@@ -31,7 +33,7 @@ import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 @Mixin(AbstractBlock.class)
-public abstract class MixinAbstractBlock {
+public abstract class MixinAbstractBlock implements IAbstractBlock {
 
     @Inject(method = "calcBlockBreakingDelta", at = @At("HEAD"), cancellable = true)
     private void changeMiningSpeedCalculation(BlockState state, PlayerEntity player, BlockView world, BlockPos pos, CallbackInfoReturnable<Float> cir) {
@@ -49,4 +51,26 @@ public abstract class MixinAbstractBlock {
         }
     }
 
+    @Override
+    public VoxelShape viaFabricPlus$getLegacyOutlineShape(final BlockState state) {
+        return null;
+    }
+
+    @Override
+    public VoxelShape viaFabricPlus$getLegacyCollisionShape(final BlockState state) {
+        return null;
+    }
+
+    @Override
+    public VoxelShape viaFabricPlus$getLegacyCameraCollisionShape(final BlockState state) {
+        // Vanilla uses the collision shape as camera collision shape by default, blocks overriding getCameraCollisionShape have to override this as well
+        return this.viaFabricPlus$getLegacyCollisionShape(state);
+    }
+
+    @Override
+    public VoxelShape viaFabricPlus$getLegacySidesShape(final BlockState state) {
+        // Vanilla uses the collision shape as sides shape by default, blocks overriding getSidesShape have to override this as well
+        return this.viaFabricPlus$getLegacyCollisionShape(state);
+    }
+
 }
@@ -19,30 +19,85 @@
 
 package de.florianmichael.viafabricplus.injection.mixin.fixes.minecraft.block;
 
+import com.llamalad7.mixinextras.injector.ModifyReturnValue;
 import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
+import de.florianmichael.viafabricplus.fixes.data.LegacyBlockShapes;
+import de.florianmichael.viafabricplus.injection.access.IAbstractBlock;
+import de.florianmichael.viafabricplus.injection.access.IAbstractBlockState;
 import de.florianmichael.viafabricplus.protocoltranslator.ProtocolTranslator;
 import net.minecraft.block.*;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.shape.VoxelShape;
 import net.minecraft.world.BlockView;
 import net.raphimc.vialegacy.api.LegacyProtocolVersion;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Overwrite;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 @Mixin(AbstractBlock.AbstractBlockState.class)
-public abstract class MixinAbstractBlock_AbstractBlockState {
+public abstract class MixinAbstractBlock_AbstractBlockState implements IAbstractBlockState {
 
     @Shadow
     public abstract Block getBlock();
 
+    @Shadow
+    protected abstract BlockState asBlockState();
+
     @Shadow
     @Final
     private boolean toolRequired;
 
+    /**
+     * Written on the client thread when the shape cache is initialized and read by the chunk meshing threads, so all
+     * shapes of the state are published at once
+     */
+    @Unique
+    private volatile LegacyBlockShapes viaFabricPlus$legacyShapes;
+
+    @Inject(method = "initShapeCache", at = @At("HEAD"))
+    private void bakeLegacyShapes(CallbackInfo ci) {
+        // Legacy shapes only depend on the state and the target version, ClientsideFixes reinitializes the shape cache on version change
+        final IAbstractBlock block = (IAbstractBlock) this.getBlock();
+        final BlockState state = this.asBlockState();
+
+        this.viaFabricPlus$legacyShapes = LegacyBlockShapes.of(
+                block.viaFabricPlus$getLegacyOutlineShape(state),
+                block.viaFabricPlus$getLegacyCollisionShape(state),
+                block.viaFabricPlus$getLegacyCameraCollisionShape(state),
+                block.viaFabricPlus$getLegacySidesShape(state)
+        );
+    }
+
+    @ModifyReturnValue(method = "getOutlineShape(Lnet/minecraft/world/BlockView;Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/block/ShapeContext;)Lnet/minecraft/util/shape/VoxelShape;", at = @At("RETURN"))
+    private VoxelShape useLegacyOutlineShape(VoxelShape original) {
+        final LegacyBlockShapes shapes = this.viaFabricPlus$legacyShapes;
+        return shapes != null && shapes.outlineShape() != null ? shapes.outlineShape() : original;
+    }
+
+    @ModifyReturnValue(method = "getCollisionShape(Lnet/minecraft/world/BlockView;Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/block/ShapeContext;)Lnet/minecraft/util/shape/VoxelShape;", at = @At("RETURN"))
+    private VoxelShape useLegacyCollisionShape(VoxelShape original) {
+        final LegacyBlockShapes shapes = this.viaFabricPlus$legacyShapes;
+        return shapes != null && shapes.collisionShape() != null ? shapes.collisionShape() : original;
+    }
+
+    @ModifyReturnValue(method = "getCameraCollisionShape", at = @At("RETURN"))
+    private VoxelShape useLegacyCameraCollisionShape(VoxelShape original) {
+        final LegacyBlockShapes shapes = this.viaFabricPlus$legacyShapes;
+        return shapes != null && shapes.cameraCollisionShape() != null ? shapes.cameraCollisionShape() : original;
+    }
+
+    @ModifyReturnValue(method = "getSidesShape", at = @At("RETURN"))
+    private VoxelShape useLegacySidesShape(VoxelShape original) {
+        final LegacyBlockShapes shapes = this.viaFabricPlus$legacyShapes;
+        return shapes != null && shapes.sidesShape() != null ? shapes.sidesShape() : original;
+    }
+
     /**
      * @author RK_01
      * @reason Change break speed for shulker blocks in < 1.14
@@ -81,4 +136,10 @@ public abstract class MixinAbstractBlock_AbstractBlockState {
         }
     }
 
+    @Override
+    public VoxelShape viaFabricPlus$getLegacyCollisionShape() {
+        final LegacyBlockShapes shapes = this.viaFabricPlus$legacyShapes;
+        return shapes != null ? shapes.collisionShape() : null;
+    }
+
 }
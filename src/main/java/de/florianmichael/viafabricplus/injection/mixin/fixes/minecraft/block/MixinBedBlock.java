@@ -21,6 +21,7 @@ package de.florianmichael.viafabricplus.injection.mixin.fixes.minecraft.block;
 
 import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
 import de.florianmichael.viafabricplus.injection.ViaFabricPlusMixinPlugin;
+import de.florianmichael.viafabricplus.injection.access.IAbstractBlock;
 import de.florianmichael.viafabricplus.protocoltranslator.ProtocolTranslator;
 import net.minecraft.block.*;
 import net.minecraft.entity.Entity;
@@ -32,10 +33,9 @@ import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
-import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 @Mixin(BedBlock.class)
-public abstract class MixinBedBlock extends HorizontalFacingBlock {
+public abstract class MixinBedBlock extends HorizontalFacingBlock implements IAbstractBlock {
 
     @Unique
     private static final VoxelShape viaFabricPlus$shape_r1_13_2 = Block.createCuboidShape(0.0D, 0.0D, 0.0D, 16.0D, 9.0D, 16.0D);
@@ -44,15 +44,12 @@ public abstract class MixinBedBlock extends HorizontalFacingBlock {
         super(settings);
     }
 
-    @Unique
-    private boolean viaFabricPlus$requireOriginalShape;
-
-    @Inject(method = "getOutlineShape", at = @At("HEAD"), cancellable = true)
-    private void changeOutlineShape(BlockState state, BlockView world, BlockPos pos, ShapeContext context, CallbackInfoReturnable<VoxelShape> cir) {
-        if (ViaFabricPlusMixinPlugin.MORE_CULLING_PRESENT && viaFabricPlus$requireOriginalShape) {
-            viaFabricPlus$requireOriginalShape = false;
-        } else if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_13_2)) {
-            cir.setReturnValue(viaFabricPlus$shape_r1_13_2);
+    @Override
+    public VoxelShape viaFabricPlus$getLegacyOutlineShape(final BlockState state) {
+        if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_13_2)) {
+            return viaFabricPlus$shape_r1_13_2;
+        } else {
+            return null;
         }
     }
 
@@ -67,8 +64,11 @@ public abstract class MixinBedBlock extends HorizontalFacingBlock {
     public VoxelShape getCullingShape(BlockState state, BlockView world, BlockPos pos) {
         // Workaround for https://github.com/ViaVersion/ViaFabricPlus/issues/246
         // MoreCulling is caching the culling shape and doesn't reload it, so we have to force vanilla's shape here.
-        viaFabricPlus$requireOriginalShape = true;
-        return super.getCullingShape(state, world, pos);
+        if (ViaFabricPlusMixinPlugin.MORE_CULLING_PRESENT) {
+            return this.getOutlineShape(state, world, pos, ShapeContext.absent());
+        } else {
+            return super.getCullingShape(state, world, pos);
+        }
     }
 
 }
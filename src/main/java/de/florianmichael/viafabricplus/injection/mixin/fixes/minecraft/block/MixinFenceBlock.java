@@ -20,13 +20,12 @@
 package de.florianmichael.viafabricplus.injection.mixin.fixes.minecraft.block;
 
 import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
+import de.florianmichael.viafabricplus.injection.access.IAbstractBlock;
 import de.florianmichael.viafabricplus.protocoltranslator.ProtocolTranslator;
 import net.minecraft.block.*;
 import net.minecraft.util.ItemActionResult;
-import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.shape.VoxelShape;
 import net.minecraft.util.shape.VoxelShapes;
-import net.minecraft.world.BlockView;
 import net.raphimc.vialegacy.api.LegacyProtocolVersion;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
@@ -36,7 +35,7 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 @Mixin(FenceBlock.class)
-public abstract class MixinFenceBlock extends HorizontalConnectingBlock {
+public abstract class MixinFenceBlock extends HorizontalConnectingBlock implements IAbstractBlock {
 
     @Unique
     private static final VoxelShape viaFabricPlus$shape_b1_8_1 = Block.createCuboidShape(0.0D, 0.0D, 0.0D, 16.0D, 24.0D, 16.0D);
@@ -65,27 +64,33 @@ public abstract class MixinFenceBlock extends HorizontalConnectingBlock {
     }
 
     @Override
-    public VoxelShape getOutlineShape(BlockState state, BlockView world, BlockPos pos, ShapeContext context) {
+    public VoxelShape viaFabricPlus$getLegacyOutlineShape(final BlockState state) {
         if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(LegacyProtocolVersion.b1_8tob1_8_1)) {
             return VoxelShapes.fullCube();
         } else if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(LegacyProtocolVersion.r1_4_6tor1_4_7)) {
             return this.viaFabricPlus$outline_shape_r1_4_7[this.getShapeIndex(state)];
         } else {
-            return super.getOutlineShape(state, world, pos, context);
+            return null;
         }
     }
 
     @Override
-    public VoxelShape getCollisionShape(BlockState state, BlockView world, BlockPos pos, ShapeContext context) {
+    public VoxelShape viaFabricPlus$getLegacyCollisionShape(final BlockState state) {
         if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(LegacyProtocolVersion.b1_8tob1_8_1)) {
             return viaFabricPlus$shape_b1_8_1;
         } else if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(LegacyProtocolVersion.r1_4_6tor1_4_7)) {
             return this.viaFabricPlus$collision_shape_r1_4_7[this.getShapeIndex(state)];
         } else {
-            return super.getCollisionShape(state, world, pos, context);
+            return null;
         }
     }
 
+    @Override
+    public VoxelShape viaFabricPlus$getLegacyCameraCollisionShape(final BlockState state) {
+        // Fences use their outline shape as camera collision shape
+        return this.viaFabricPlus$getLegacyOutlineShape(state);
+    }
+
     @Unique
     private VoxelShape[] viaFabricPlus$createShapes1_4_7(final float height) {
         final float f = 6.0F;
@@ -20,22 +20,17 @@
 package de.florianmichael.viafabricplus.injection.mixin.fixes.minecraft.block;
 
 import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
+import de.florianmichael.viafabricplus.injection.access.IAbstractBlock;
 import de.florianmichael.viafabricplus.protocoltranslator.ProtocolTranslator;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.LadderBlock;
-import net.minecraft.block.ShapeContext;
-import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.shape.VoxelShape;
-import net.minecraft.world.BlockView;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
-import org.spongepowered.asm.mixin.injection.At;
-import org.spongepowered.asm.mixin.injection.Inject;
-import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 @Mixin(LadderBlock.class)
-public abstract class MixinLadderBlock {
+public abstract class MixinLadderBlock implements IAbstractBlock {
 
     @Unique
     private static final VoxelShape viaFabricPlus$east_shape_r1_8_x = Block.createCuboidShape(0.0D, 0.0D, 0.0D, 2.0D, 16.0D, 16.0D);
@@ -49,15 +44,17 @@ public abstract class MixinLadderBlock {
     @Unique
     private static final VoxelShape viaFabricPlus$north_shape_r1_8_x = Block.createCuboidShape(0.0D, 0.0D, 14.0D, 16.0D, 16.0D, 16.0D);
 
-    @Inject(method = "getOutlineShape", at = @At("HEAD"), cancellable = true)
-    private void changeOutlineShape(BlockState state, BlockView world, BlockPos pos, ShapeContext context, CallbackInfoReturnable<VoxelShape> ci) {
+    @Override
+    public VoxelShape viaFabricPlus$getLegacyOutlineShape(final BlockState state) {
         if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_8)) {
-            switch (state.get(LadderBlock.FACING)) {
-                case NORTH -> ci.setReturnValue(viaFabricPlus$north_shape_r1_8_x);
-                case SOUTH -> ci.setReturnValue(viaFabricPlus$south_shape_r1_8_x);
-                case WEST -> ci.setReturnValue(viaFabricPlus$west_shape_r1_8_x);
-                default -> ci.setReturnValue(viaFabricPlus$east_shape_r1_8_x);
-            }
+            return switch (state.get(LadderBlock.FACING)) {
+                case NORTH -> viaFabricPlus$north_shape_r1_8_x;
+                case SOUTH -> viaFabricPlus$south_shape_r1_8_x;
+                case WEST -> viaFabricPlus$west_shape_r1_8_x;
+                default -> viaFabricPlus$east_shape_r1_8_x;
+            };
+        } else {
+            return null;
         }
     }
 
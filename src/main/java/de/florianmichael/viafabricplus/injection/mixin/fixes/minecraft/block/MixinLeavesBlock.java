@@ -20,29 +20,29 @@
 package de.florianmichael.viafabricplus.injection.mixin.fixes.minecraft.block;
 
 import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
+import de.florianmichael.viafabricplus.injection.access.IAbstractBlock;
 import de.florianmichael.viafabricplus.protocoltranslator.ProtocolTranslator;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.LeavesBlock;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.shape.VoxelShape;
-import net.minecraft.world.BlockView;
+import net.minecraft.world.EmptyBlockView;
 import org.spongepowered.asm.mixin.Mixin;
-import org.spongepowered.asm.mixin.injection.At;
-import org.spongepowered.asm.mixin.injection.Inject;
-import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 @Mixin(LeavesBlock.class)
-public abstract class MixinLeavesBlock extends Block {
+public abstract class MixinLeavesBlock extends Block implements IAbstractBlock {
 
     public MixinLeavesBlock(Settings settings) {
         super(settings);
     }
 
-    @Inject(method = "getSidesShape", at = @At("HEAD"), cancellable = true)
-    private void changeSidesShape(BlockState state, BlockView world, BlockPos pos, CallbackInfoReturnable<VoxelShape> cir) {
+    @Override
+    public VoxelShape viaFabricPlus$getLegacySidesShape(final BlockState state) {
         if (ProtocolTranslator.getTargetVersion().betweenInclusive(ProtocolVersion.v1_14, ProtocolVersion.v1_15_2)) {
-            cir.setReturnValue(super.getSidesShape(state, world, pos));
+            return super.getSidesShape(state, EmptyBlockView.INSTANCE, BlockPos.ORIGIN);
+        } else {
+            return null;
         }
     }
 
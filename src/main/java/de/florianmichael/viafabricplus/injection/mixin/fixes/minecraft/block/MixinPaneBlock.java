@@ -20,12 +20,11 @@
 package de.florianmichael.viafabricplus.injection.mixin.fixes.minecraft.block;
 
 import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
+import de.florianmichael.viafabricplus.injection.access.IAbstractBlock;
 import de.florianmichael.viafabricplus.protocoltranslator.ProtocolTranslator;
 import net.minecraft.block.*;
-import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.shape.VoxelShape;
 import net.minecraft.util.shape.VoxelShapes;
-import net.minecraft.world.BlockView;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
@@ -33,7 +32,7 @@ import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 @Mixin(PaneBlock.class)
-public abstract class MixinPaneBlock extends HorizontalConnectingBlock {
+public abstract class MixinPaneBlock extends HorizontalConnectingBlock implements IAbstractBlock {
 
     @Unique
     private VoxelShape[] viaFabricPlus$shape_r1_8;
@@ -84,20 +83,16 @@ public abstract class MixinPaneBlock extends HorizontalConnectingBlock {
     }
 
     @Override
-    public VoxelShape getOutlineShape(BlockState state, BlockView world, BlockPos pos, ShapeContext context) {
-        if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_8)) {
-            return this.viaFabricPlus$shape_r1_8[this.getShapeIndex(state)];
-        } else {
-            return super.getOutlineShape(state, world, pos, context);
-        }
+    public VoxelShape viaFabricPlus$getLegacyOutlineShape(final BlockState state) {
+        return this.viaFabricPlus$getLegacyCollisionShape(state);
     }
 
     @Override
-    public VoxelShape getCollisionShape(BlockState state, BlockView world, BlockPos pos, ShapeContext context) {
+    public VoxelShape viaFabricPlus$getLegacyCollisionShape(final BlockState state) {
         if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_8)) {
             return this.viaFabricPlus$shape_r1_8[this.getShapeIndex(state)];
         } else {
-            return super.getCollisionShape(state, world, pos, context);
+            return null;
         }
     }
 
@@ -20,22 +20,20 @@
 package de.florianmichael.viafabricplus.injection.mixin.fixes.minecraft.block;
 
 import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
+import de.florianmichael.viafabricplus.injection.access.IAbstractBlock;
 import de.florianmichael.viafabricplus.protocoltranslator.ProtocolTranslator;
 import net.minecraft.block.*;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.shape.VoxelShape;
 import net.minecraft.util.shape.VoxelShapes;
-import net.minecraft.world.BlockView;
+import net.minecraft.world.EmptyBlockView;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.Unique;
-import org.spongepowered.asm.mixin.injection.At;
-import org.spongepowered.asm.mixin.injection.Inject;
-import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 @Mixin(PistonHeadBlock.class)
-public abstract class MixinPistonHeadBlock extends FacingBlock {
+public abstract class MixinPistonHeadBlock extends FacingBlock implements IAbstractBlock {
 
     @Shadow
     @Final
@@ -79,34 +77,29 @@ public abstract class MixinPistonHeadBlock extends FacingBlock {
     @Unique
     private static final VoxelShape viaFabricPlus$west_arm_shape_r1_8_x = Block.createCuboidShape(6.0, 4.0, 4.0, 10.0, 12.0, 16.0);
 
-    @Unique
-    private boolean viaFabricPlus$selfInflicted = false;
-
     protected MixinPistonHeadBlock(Settings settings) {
         super(settings);
     }
 
-    @Inject(method = "getOutlineShape", at = @At("HEAD"), cancellable = true)
-    private void changeOutlineShape(BlockState state, BlockView world, BlockPos pos, ShapeContext context, CallbackInfoReturnable<VoxelShape> cir) {
-        if (viaFabricPlus$selfInflicted) {
-            viaFabricPlus$selfInflicted = false;
-            return;
-        }
+    @Override
+    public VoxelShape viaFabricPlus$getLegacyOutlineShape(final BlockState state) {
         // Outline shape for piston head doesn't exist in <= 1.12.2
         if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_12_2)) {
-            cir.setReturnValue(switch (state.get(PistonHeadBlock.FACING)) {
+            return switch (state.get(PistonHeadBlock.FACING)) {
                 case DOWN -> DOWN_HEAD_SHAPE;
                 case UP -> UP_HEAD_SHAPE;
                 case NORTH -> NORTH_HEAD_SHAPE;
                 case SOUTH -> SOUTH_HEAD_SHAPE;
                 case WEST -> WEST_HEAD_SHAPE;
                 case EAST -> EAST_HEAD_SHAPE;
-            });
+            };
+        } else {
+            return null;
         }
     }
 
     @Override
-    public VoxelShape getCollisionShape(BlockState state, BlockView world, BlockPos pos, ShapeContext context) {
+    public VoxelShape viaFabricPlus$getLegacyCollisionShape(final BlockState state) {
         if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_8)) {
             return switch (state.get(PistonHeadBlock.FACING)) {
                 case DOWN -> VoxelShapes.union(DOWN_HEAD_SHAPE, viaFabricPlus$down_arm_shape_r1_8_x);
@@ -118,10 +111,9 @@ public abstract class MixinPistonHeadBlock extends FacingBlock {
             };
         } else if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_12_2)) {
             // Collision shape for piston head in <= 1.12.2 needs to be the 1.13+ outline shape
-            viaFabricPlus$selfInflicted = true;
-            return getOutlineShape(state, world, pos, context);
+            return this.getOutlineShape(state, EmptyBlockView.INSTANCE, BlockPos.ORIGIN, ShapeContext.absent());
         } else {
-            return super.getCollisionShape(state, world, pos, context);
+            return null;
         }
     }
 
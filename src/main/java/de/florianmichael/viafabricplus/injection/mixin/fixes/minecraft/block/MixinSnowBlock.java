@@ -20,25 +20,20 @@
 package de.florianmichael.viafabricplus.injection.mixin.fixes.minecraft.block;
 
 import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
+import de.florianmichael.viafabricplus.injection.access.IAbstractBlock;
 import de.florianmichael.viafabricplus.protocoltranslator.ProtocolTranslator;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
-import net.minecraft.block.ShapeContext;
 import net.minecraft.block.SnowBlock;
 import net.minecraft.state.property.IntProperty;
-import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.shape.VoxelShape;
-import net.minecraft.world.BlockView;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.Unique;
-import org.spongepowered.asm.mixin.injection.At;
-import org.spongepowered.asm.mixin.injection.Inject;
-import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 @Mixin(SnowBlock.class)
-public abstract class MixinSnowBlock {
+public abstract class MixinSnowBlock implements IAbstractBlock {
 
     @Unique
     private static final VoxelShape[] viaFabricPlus$layers_to_shape_r1_12_2 = new VoxelShape[]{
@@ -57,11 +52,25 @@ public abstract class MixinSnowBlock {
     @Final
     public static IntProperty LAYERS;
 
-    @Inject(method = "getCollisionShape", at = @At("HEAD"), cancellable = true)
-    private void changeCollisionShape(BlockState state, BlockView world, BlockPos pos, ShapeContext context, CallbackInfoReturnable<VoxelShape> cir) {
+    @Override
+    public VoxelShape viaFabricPlus$getLegacyCollisionShape(final BlockState state) {
         if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_12_2)) {
-            cir.setReturnValue(viaFabricPlus$layers_to_shape_r1_12_2[state.get(LAYERS) - 1]);
+            return viaFabricPlus$layers_to_shape_r1_12_2[state.get(LAYERS) - 1];
+        } else {
+            return null;
         }
     }
 
+    @Override
+    public VoxelShape viaFabricPlus$getLegacyCameraCollisionShape(final BlockState state) {
+        // Snow layers have their own camera collision shape which isn't affected by the collision shape change
+        return null;
+    }
+
+    @Override
+    public VoxelShape viaFabricPlus$getLegacySidesShape(final BlockState state) {
+        // Snow layers have their own sides shape which isn't affected by the collision shape change
+        return null;
+    }
+
 }
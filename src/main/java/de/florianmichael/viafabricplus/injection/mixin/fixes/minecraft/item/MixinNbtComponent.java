@@ -16,32 +16,38 @@
  * You should have received a copy of the GNU General Public License
  * along with this program.  If not, see <http://www.gnu.org/licenses/>.
  */
+package de.florianmichael.viafabricplus.injection.mixin.fixes.minecraft.item;
 
-package de.florianmichael.viafabricplus.injection.mixin.fixes.minecraft;
-
-import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
-import de.florianmichael.viafabricplus.protocoltranslator.ProtocolTranslator;
-import net.minecraft.client.network.AllowedAddressResolver;
-import net.minecraft.client.network.ServerAddress;
+import de.florianmichael.viafabricplus.injection.access.INbtComponent;
+import de.florianmichael.viafabricplus.util.ItemUtil;
+import net.minecraft.component.type.NbtComponent;
+import net.minecraft.nbt.NbtCompound;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
-import org.spongepowered.asm.mixin.injection.At;
-import org.spongepowered.asm.mixin.injection.Inject;
-import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.asm.mixin.Unique;
 
-@Mixin(ServerAddress.class)
-public abstract class MixinServerAddress {
+@Mixin(NbtComponent.class)
+public abstract class MixinNbtComponent implements INbtComponent {
 
     @Shadow
     @Final
-    private static ServerAddress INVALID;
+    private NbtCompound nbt;
+
+    @Unique
+    private Integer viaFabricPlus$legacyCount;
+
+    @Unique
+    private volatile boolean viaFabricPlus$legacyCountRead;
 
-    @Inject(method = "parse", at = @At("RETURN"), cancellable = true)
-    private static void resolveSrv(String address, CallbackInfoReturnable<ServerAddress> cir) {
-        if (!cir.getReturnValue().equals(INVALID) && ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_16_4)) {
-            cir.setReturnValue(AllowedAddressResolver.DEFAULT.redirectResolver.lookupRedirect(cir.getReturnValue()).orElse(cir.getReturnValue()));
+    @Override
+    public Integer viaFabricPlus$getLegacyCount() {
+        // Components are immutable, so the count stored by ViaVersion only needs to be read once
+        if (!this.viaFabricPlus$legacyCountRead) {
+            this.viaFabricPlus$legacyCount = this.nbt.contains(ItemUtil.VV_IDENTIFIER) ? this.nbt.getInt(ItemUtil.VV_IDENTIFIER) : null;
+            this.viaFabricPlus$legacyCountRead = true;
         }
+        return this.viaFabricPlus$legacyCount;
     }
 
 }
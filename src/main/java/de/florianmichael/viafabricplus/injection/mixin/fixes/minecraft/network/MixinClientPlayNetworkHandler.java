@@ -202,11 +202,21 @@ public abstract class MixinClientPlayNetworkHandler extends ClientCommonNetworkH
         }
     }
 
+    @Inject(method = { "onPlayerList", "onPlayerRemove" }, at = @At("RETURN"))
+    private void updateLegacyTablist(CallbackInfo ci) {
+        ((IPlayerListHud) this.client.inGameHud.getPlayerListHud()).viaFabricPlus$markEntriesDirty();
+    }
+
     @Redirect(method = "onGameJoin", at = @At(value = "INVOKE", target = "Lnet/minecraft/client/network/ClientPlayNetworkHandler;isSecureChatEnforced()Z"))
     private boolean removeSecureChatWarning(ClientPlayNetworkHandler instance) {
         return isSecureChatEnforced() || VisualSettings.global().disableSecureChatWarning.isEnabled();
     }
 
+    @Inject(method = "onDisconnected", at = @At("RETURN"))
+    private void clearPendingSyncTasks(CallbackInfo ci) {
+        ClientsideFixes.clearPendingSyncTasks();
+    }
+
     @Inject(method = "onPlayerSpawnPosition", at = @At("RETURN"))
     private void moveDownloadingTerrainClosing(PlayerSpawnPositionS2CPacket packet, CallbackInfo ci) {
         if (ProtocolTranslator.getTargetVersion().betweenInclusive(ProtocolVersion.v1_18_2, ProtocolVersion.v1_20_2) && this.client.currentScreen instanceof IDownloadingTerrainScreen mixinDownloadingTerrainScreen) {
@@ -26,6 +26,7 @@ import com.viaversion.viaversion.api.minecraft.signature.storage.ChatSession1_19
 import com.viaversion.viaversion.api.minecraft.signature.storage.ChatSession1_19_1;
 import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
 import de.florianmichael.viafabricplus.ViaFabricPlus;
+import de.florianmichael.viafabricplus.fixes.versioned.SrvRecordCache1_16_4;
 import de.florianmichael.viafabricplus.injection.access.IClientConnection;
 import de.florianmichael.viafabricplus.injection.access.ILegacyKeySignatureStorage;
 import de.florianmichael.viafabricplus.protocoltranslator.ProtocolTranslator;
@@ -42,6 +43,7 @@ import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.ModifyArg;
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
@@ -60,10 +62,15 @@ public abstract class MixinConnectScreen_1 {
     @Final
     MinecraftClient field_33738;
 
+    @ModifyArg(method = "run", at = @At(value = "INVOKE", target = "Lnet/minecraft/client/network/AllowedAddressResolver;resolve(Lnet/minecraft/client/network/ServerAddress;)Ljava/util/Optional;"))
+    private ServerAddress resolveSrv(ServerAddress address) {
+        return SrvRecordCache1_16_4.resolve(address, ProtocolTranslator.getTargetVersion());
+    }
+
     @Redirect(method = "run", at = @At(value = "INVOKE", target = "Ljava/net/InetSocketAddress;getHostName()Ljava/lang/String;", remap = false))
     private String getRealAddress(InetSocketAddress instance) {
         if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_17)) {
-            return field_33737.getAddress();
+            return SrvRecordCache1_16_4.resolve(field_33737, ProtocolTranslator.getTargetVersion()).getAddress();
         } else {
             return instance.getHostName();
         }
@@ -72,7 +79,7 @@ public abstract class MixinConnectScreen_1 {
     @Redirect(method = "run", at = @At(value = "INVOKE", target = "Ljava/net/InetSocketAddress;getPort()I", remap = false))
     private int getRealPort(InetSocketAddress instance) {
         if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_17)) {
-            return field_33737.getPort();
+            return SrvRecordCache1_16_4.resolve(field_33737, ProtocolTranslator.getTargetVersion()).getPort();
         } else {
             return instance.getPort();
         }
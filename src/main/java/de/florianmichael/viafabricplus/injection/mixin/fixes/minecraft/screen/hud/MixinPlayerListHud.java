@@ -35,6 +35,7 @@ import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -55,15 +56,27 @@ public abstract class MixinPlayerListHud implements IPlayerListHud {
     @Unique
     private boolean viaFabricPlus$hideSkins = true;
 
+    @Unique
+    private List<PlayerListEntry> viaFabricPlus$entries = Collections.emptyList();
+
+    @Unique
+    private boolean viaFabricPlus$entriesDirty = true;
+
     @Inject(method = "collectPlayerEntries", at = @At("HEAD"), cancellable = true)
     private void collectPlayerEntries(CallbackInfoReturnable<List<PlayerListEntry>> result) {
         if (VisualSettings.global().enableLegacyTablist.isEnabled()) {
-            result.setReturnValue(this.client.player.networkHandler.getListedPlayerListEntries().stream()
-                    .sorted(viaFabricPlus$FIFO_COMPARATOR)
-                    .limit(viaFabricPlus$maxSlots)
-                    .collect(Collectors.collectingAndThen(Collectors.toList(), this::viaFabricPlus$transpose)));
+            // Only sort the entries again after the player list has been changed by the server
+            if (viaFabricPlus$entriesDirty) {
+                viaFabricPlus$entriesDirty = false;
+                viaFabricPlus$entries = this.client.player.networkHandler.getListedPlayerListEntries().stream()
+                        .sorted(viaFabricPlus$FIFO_COMPARATOR)
+                        .limit(viaFabricPlus$maxSlots)
+                        .collect(Collectors.collectingAndThen(Collectors.toList(), this::viaFabricPlus$transpose));
+            }
+            result.setReturnValue(viaFabricPlus$entries);
         } else {
             viaFabricPlus$hideSkins = false;
+            viaFabricPlus$entriesDirty = true;
         }
     }
 
@@ -98,6 +111,12 @@ public abstract class MixinPlayerListHud implements IPlayerListHud {
     @Override
     public void viaFabricPlus$setMaxPlayers(int maxPlayers) {
         this.viaFabricPlus$maxSlots = Math.min(200, Math.max(20, ((maxPlayers + PlayerListHud.MAX_ROWS - 1) / PlayerListHud.MAX_ROWS) * PlayerListHud.MAX_ROWS));
+        this.viaFabricPlus$markEntriesDirty();
+    }
+
+    @Override
+    public void viaFabricPlus$markEntriesDirty() {
+        this.viaFabricPlus$entriesDirty = true;
     }
 
 }
@@ -31,21 +31,21 @@ public abstract class MixinClassicProtocolExtension {
 
     @Inject(method = "supportsVersion", at = @At("HEAD"), cancellable = true)
     private void allowExtensions_supportsVersion(int version, CallbackInfoReturnable<Boolean> cir) {
-        if (CPEAdditions.ALLOWED_EXTENSIONS.contains((ClassicProtocolExtension) (Object) this)) {
+        if (CPEAdditions.isExtensionAllowed((ClassicProtocolExtension) (Object) this)) {
             cir.setReturnValue(true);
         }
     }
 
     @Inject(method = "isSupported", at = @At("HEAD"), cancellable = true)
     private void allowExtensions_isSupported(CallbackInfoReturnable<Boolean> cir) {
-        if (CPEAdditions.ALLOWED_EXTENSIONS.contains((ClassicProtocolExtension) (Object) this)) {
+        if (CPEAdditions.isExtensionAllowed((ClassicProtocolExtension) (Object) this)) {
             cir.setReturnValue(true);
         }
     }
 
     @Inject(method = "getHighestSupportedVersion", at = @At("HEAD"), cancellable = true)
     private void allowExtensions_getHighestSupportedVersion(CallbackInfoReturnable<Integer> cir) {
-        if (CPEAdditions.ALLOWED_EXTENSIONS.contains((ClassicProtocolExtension) (Object) this)) {
+        if (CPEAdditions.isExtensionAllowed((ClassicProtocolExtension) (Object) this)) {
             cir.setReturnValue(1);
         }
     }
@@ -31,8 +31,9 @@ public abstract class MixinClientboundPacketsc0_30cpe {
 
     @Inject(method = "getPacket", at = @At("HEAD"), cancellable = true)
     private static void addCustomPackets(int id, CallbackInfoReturnable<ClientboundPacketsc0_30cpe> cir) {
-        if (CPEAdditions.CUSTOM_PACKETS.containsKey(id)) {
-            cir.setReturnValue(CPEAdditions.CUSTOM_PACKETS.get(id));
+        final ClientboundPacketsc0_30cpe packet = CPEAdditions.getCustomPacket(id);
+        if (packet != null) {
+            cir.setReturnValue(packet);
         }
     }
 
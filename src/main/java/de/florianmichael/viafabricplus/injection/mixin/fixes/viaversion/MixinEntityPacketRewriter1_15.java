@@ -19,6 +19,7 @@
 
 package de.florianmichael.viafabricplus.injection.mixin.fixes.viaversion;
 
+import com.viaversion.viaversion.api.type.Types;
 import com.viaversion.viaversion.protocols.v1_14_3to1_14_4.packet.ClientboundPackets1_14_4;
 import com.viaversion.viaversion.protocols.v1_14_4to1_15.Protocol1_14_4To1_15;
 import com.viaversion.viaversion.protocols.v1_14_4to1_15.rewriter.EntityPacketRewriter1_15;
@@ -27,7 +28,9 @@ import com.viaversion.viaversion.rewriter.entitydata.EntityDataFilter;
 import de.florianmichael.viafabricplus.fixes.viaversion.WolfHealthTracker1_14_4;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 @Mixin(value = EntityPacketRewriter1_15.class, remap = false)
 public abstract class MixinEntityPacketRewriter1_15 extends EntityRewriter<ClientboundPackets1_14_4, Protocol1_14_4To1_15> {
@@ -49,4 +52,17 @@ public abstract class MixinEntityPacketRewriter1_15 extends EntityRewriter<Clien
         });
     }
 
+    @Inject(method = "registerPackets", at = @At("RETURN"))
+    private void evictWolfHealth(CallbackInfo ci) {
+        // Entity ids are reused by the server, so we have to remove the health of entities which are no longer present
+        protocol.appendClientbound(ClientboundPackets1_14_4.REMOVE_ENTITIES, wrapper -> {
+            final WolfHealthTracker1_14_4 tracker = wrapper.user().get(WolfHealthTracker1_14_4.class);
+            for (int entityId : wrapper.get(Types.VAR_INT_ARRAY_PRIMITIVE, 0)) {
+                tracker.removeEntity(entityId);
+            }
+        });
+        protocol.appendClientbound(ClientboundPackets1_14_4.RESPAWN, wrapper -> wrapper.user().get(WolfHealthTracker1_14_4.class).clear());
+        protocol.appendClientbound(ClientboundPackets1_14_4.LOGIN, wrapper -> wrapper.user().get(WolfHealthTracker1_14_4.class).clear());
+    }
+
 }
@@ -21,8 +21,7 @@ package de.florianmichael.viafabricplus.injection.mixin.fixes.viaversion;
 
 import com.viaversion.viaversion.libs.fastutil.ints.IntList;
 import com.viaversion.viaversion.protocols.v1_16_4to1_17.storage.InventoryAcknowledgements;
-import it.unimi.dsi.fastutil.ints.IntArrayList;
-import it.unimi.dsi.fastutil.ints.IntLists;
+import de.florianmichael.viafabricplus.fixes.viaversion.InventoryAcknowledgementTable;
 import org.spongepowered.asm.mixin.*;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
@@ -38,12 +37,12 @@ public abstract class MixinInventoryAcknowledgements {
     private IntList ids;
 
     @Unique
-    private it.unimi.dsi.fastutil.ints.IntList viaFabricPlus$ids;
+    private InventoryAcknowledgementTable viaFabricPlus$ids;
 
     @Inject(method = "<init>", at = @At("RETURN"))
     private void makeConcurrent(CallbackInfo ci) {
         this.ids = null;
-        this.viaFabricPlus$ids = IntLists.synchronize(new IntArrayList());
+        this.viaFabricPlus$ids = new InventoryAcknowledgementTable();
     }
 
     @Inject(method = "addId", at = @At("HEAD"), cancellable = true)
@@ -54,7 +53,7 @@ public abstract class MixinInventoryAcknowledgements {
 
     @Inject(method = "removeId", at = @At("HEAD"), cancellable = true)
     private void forwardRemove(int id, CallbackInfoReturnable<Boolean> cir) {
-        cir.setReturnValue(viaFabricPlus$ids.rem(id));
+        cir.setReturnValue(viaFabricPlus$ids.remove(id));
     }
 
 }
@@ -42,6 +42,7 @@ import net.minecraft.text.Text;
 import net.minecraft.text.TextCodecs;
 import net.minecraft.util.math.MathHelper;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
@@ -54,36 +55,42 @@ public abstract class MixinItemPacketRewriter1_14 extends ItemRewriter<Clientbou
         super(protocol, itemType, itemArrayType);
     }
 
+    @Unique
+    private int viaFabricPlus$openLargeContainerTask;
+
     @Inject(method = "registerPackets", at = @At("RETURN"))
     private void dontResyncInventory(CallbackInfo ci) {
         this.protocol.registerServerbound(ServerboundPackets1_14.SELECT_TRADE, ServerboundPackets1_13.SELECT_TRADE, null, true);
     }
 
+    @Inject(method = "registerPackets", at = @At("RETURN"))
+    private void registerLargeContainerTask(CallbackInfo ci) {
+        viaFabricPlus$openLargeContainerTask = ClientsideFixes.registerSyncTask(data -> {
+            final MinecraftClient mc = MinecraftClient.getInstance();
+
+            try {
+                final int syncId = data.readUnsignedByte();
+                final int size = data.readUnsignedByte();
+                final Text mcTitle = TextCodecs.UNLIMITED_REGISTRY_PACKET_CODEC.decode(data);
+
+                final GenericContainerScreenHandler screenHandler = new GenericContainerScreenHandler(null, syncId, mc.player.getInventory(), new SimpleInventory(size), MathHelper.ceil(size / 9F));
+                mc.player.currentScreenHandler = screenHandler;
+                mc.setScreen(new GenericContainerScreen(screenHandler, mc.player.getInventory(), mcTitle));
+            } catch (Throwable t) {
+                throw new RuntimeException("Failed to handle OpenWindow packet data", t);
+            }
+        });
+    }
+
     @Inject(method = "lambda$registerPackets$0", at = @At(value = "INVOKE", target = "Lcom/viaversion/viaversion/util/ProtocolLogger;warning(Ljava/lang/String;)V", remap = false), locals = LocalCapture.CAPTURE_FAILHARD, cancellable = true)
     private void supportLargeContainers(PacketWrapper wrapper, CallbackInfo ci, Short windowId, String type, JsonElement title, Short slots) {
         if ((type.equals("minecraft:container") || type.equals("minecraft:chest")) && (slots > 54 || slots <= 0)) {
             ci.cancel();
 
-            final String uuid = ClientsideFixes.executeSyncTask(data -> {
-                final MinecraftClient mc = MinecraftClient.getInstance();
-
-                try {
-                    final int syncId = data.readUnsignedByte();
-                    final int size = data.readUnsignedByte();
-                    final Text mcTitle = TextCodecs.UNLIMITED_REGISTRY_PACKET_CODEC.decode(data);
-
-                    final GenericContainerScreenHandler screenHandler = new GenericContainerScreenHandler(null, syncId, mc.player.getInventory(), new SimpleInventory(size), MathHelper.ceil(size / 9F));
-                    mc.player.currentScreenHandler = screenHandler;
-                    mc.setScreen(new GenericContainerScreen(screenHandler, mc.player.getInventory(), mcTitle));
-                } catch (Throwable t) {
-                    throw new RuntimeException("Failed to handle OpenWindow packet data", t);
-                }
-            });
-
             wrapper.clearPacket();
             wrapper.setPacketType(ClientboundPackets1_14.CUSTOM_PAYLOAD);
             wrapper.write(Types.STRING, ClientsideFixes.PACKET_SYNC_IDENTIFIER); // sync task header
-            wrapper.write(Types.STRING, uuid); // sync task id
+            wrapper.write(Types.VAR_INT, viaFabricPlus$openLargeContainerTask); // sync task id
             wrapper.write(Types.UNSIGNED_BYTE, windowId);
             wrapper.write(Types.UNSIGNED_BYTE, slots);
             wrapper.write(Types.TAG, TextComponentTranslator.via1_14toViaLatest(title));
@@ -41,24 +41,25 @@ public abstract class MixinWorldPacketRewriter1_19 {
 
     @Redirect(method = "register", at = @At(value = "INVOKE", target = "Lcom/viaversion/viaversion/protocols/v1_18_2to1_19/Protocol1_18_2To1_19;cancelClientbound(Lcom/viaversion/viaversion/api/protocol/packet/ClientboundPacketType;)V"))
     private static void handleLegacyAcknowledgePlayerDigging(Protocol1_18_2To1_19 instance, ClientboundPacketType clientboundPacketType) {
+        final int taskId = ClientsideFixes.registerSyncTask(data -> {
+            try {
+                final BlockPos pos = data.readBlockPos();
+                final BlockState blockState = BlockStateTranslator.via1_18_2toMc(data.readVarInt());
+                final PlayerActionC2SPacket.Action action = data.readEnumConstant(PlayerActionC2SPacket.Action.class);
+                final boolean allGood = data.readBoolean();
+
+                final var mixinInteractionManager = (IClientPlayerInteractionManager) MinecraftClient.getInstance().interactionManager;
+                mixinInteractionManager.viaFabricPlus$get1_18_2InteractionManager().handleBlockBreakAck(pos, blockState, action, allGood);
+            } catch (Throwable t) {
+                throw new RuntimeException("Failed to handle BlockBreakAck packet data", t);
+            }
+        });
+
         instance.registerClientbound(ClientboundPackets1_18.BLOCK_BREAK_ACK, ClientboundPackets1_19.CUSTOM_PAYLOAD, wrapper -> {
             wrapper.resetReader();
 
-            final String uuid = ClientsideFixes.executeSyncTask(data -> {
-                try {
-                    final BlockPos pos = data.readBlockPos();
-                    final BlockState blockState = BlockStateTranslator.via1_18_2toMc(data.readVarInt());
-                    final PlayerActionC2SPacket.Action action = data.readEnumConstant(PlayerActionC2SPacket.Action.class);
-                    final boolean allGood = data.readBoolean();
-
-                    final var mixinInteractionManager = (IClientPlayerInteractionManager) MinecraftClient.getInstance().interactionManager;
-                    mixinInteractionManager.viaFabricPlus$get1_18_2InteractionManager().handleBlockBreakAck(pos, blockState, action, allGood);
-                } catch (Throwable t) {
-                    throw new RuntimeException("Failed to handle BlockBreakAck packet data", t);
-                }
-            });
             wrapper.write(Types.STRING, ClientsideFixes.PACKET_SYNC_IDENTIFIER);
-            wrapper.write(Types.STRING, uuid);
+            wrapper.write(Types.VAR_INT, taskId);
         });
     }
 
@@ -19,39 +19,33 @@
 
 package de.florianmichael.viafabricplus.injection.mixin.viabedrock;
 
+import com.llamalad7.mixinextras.injector.ModifyExpressionValue;
+import com.llamalad7.mixinextras.sugar.Local;
 import com.viaversion.viaversion.api.protocol.packet.PacketWrapper;
-import com.viaversion.viaversion.api.type.Type;
 import de.florianmichael.viafabricplus.fixes.viaversion.BedrockJoinGameTracker;
 import net.raphimc.viabedrock.protocol.packet.JoinPackets;
-import net.raphimc.viabedrock.protocol.types.primitive.LongLEType;
-import net.raphimc.viabedrock.protocol.types.primitive.StringType;
-import net.raphimc.viabedrock.protocol.types.primitive.VarIntType;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
-import org.spongepowered.asm.mixin.injection.Redirect;
 
 @Mixin(value = JoinPackets.class, remap = false)
 public abstract class MixinJoinPackets {
 
-    @Redirect(method = "lambda$register$8", at = @At(value = "INVOKE", target = "Lcom/viaversion/viaversion/api/protocol/packet/PacketWrapper;read(Lcom/viaversion/viaversion/api/type/Type;)Ljava/lang/Object;", ordinal = 5))
-    private static Object trackWorldSeed(PacketWrapper instance, Type<LongLEType> tType) {
-        final Object seed = instance.read(tType);
-        instance.user().get(BedrockJoinGameTracker.class).setSeed((long) seed);
-        return seed;
-    }
-
-    @Redirect(method = "lambda$register$8", at = @At(value = "INVOKE", target = "Lcom/viaversion/viaversion/api/protocol/packet/PacketWrapper;read(Lcom/viaversion/viaversion/api/type/Type;)Ljava/lang/Object;", ordinal = 59))
-    private static Object trackLevelId(PacketWrapper instance, Type<StringType> tType) {
-        final Object levelId = instance.read(tType);
-        instance.user().get(BedrockJoinGameTracker.class).setLevelId((String) levelId);
-        return levelId;
-    }
-
-    @Redirect(method = "lambda$register$8", at = @At(value = "INVOKE", target = "Lcom/viaversion/viaversion/api/protocol/packet/PacketWrapper;read(Lcom/viaversion/viaversion/api/type/Type;)Ljava/lang/Object;", ordinal = 67))
-    private static Object trackEnchantmentSeed(PacketWrapper instance, Type<VarIntType> tType) {
-        final Object enchantmentSeed = instance.read(tType);
-        instance.user().get(BedrockJoinGameTracker.class).setEnchantmentSeed((Integer) enchantmentSeed);
-        return enchantmentSeed;
+    @ModifyExpressionValue(method = "lambda$register$8", at = {
+            @At(value = "INVOKE", target = "Lcom/viaversion/viaversion/api/protocol/packet/PacketWrapper;read(Lcom/viaversion/viaversion/api/type/Type;)Ljava/lang/Object;", ordinal = 5), // seed
+            @At(value = "INVOKE", target = "Lcom/viaversion/viaversion/api/protocol/packet/PacketWrapper;read(Lcom/viaversion/viaversion/api/type/Type;)Ljava/lang/Object;", ordinal = 59), // level id
+            @At(value = "INVOKE", target = "Lcom/viaversion/viaversion/api/protocol/packet/PacketWrapper;read(Lcom/viaversion/viaversion/api/type/Type;)Ljava/lang/Object;", ordinal = 67) // enchantment seed
+    })
+    private static Object trackJoinGameData(Object value, @Local(argsOnly = true) PacketWrapper wrapper) {
+        // The three fields have different types, so they can be told apart without knowing which read was hooked
+        final BedrockJoinGameTracker joinGameTracker = wrapper.user().get(BedrockJoinGameTracker.class);
+        if (value instanceof Long seed) {
+            joinGameTracker.setSeed(seed);
+        } else if (value instanceof String levelId) {
+            joinGameTracker.setLevelId(levelId);
+        } else if (value instanceof Integer enchantmentSeed) {
+            joinGameTracker.setEnchantmentSeed(enchantmentSeed);
+        }
+        return value;
     }
 
 }
@@ -0,0 +1,217 @@
+/*
+ * This file is part of ViaFabricPlus - https://github.com/FlorianMichael/ViaFabricPlus
+ * Copyright (C) 2021-2024 FlorianMichael/EnZaXD <florian.michael07@gmail.com> and RK_01/RaphiMC
+ * Copyright (C) 2023-2024 contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.florianmichael.viafabricplus.protocoltranslator.impl;
+
+import com.viaversion.viaversion.libs.gson.JsonArray;
+import com.viaversion.viaversion.libs.gson.JsonElement;
+import com.viaversion.viaversion.libs.gson.JsonNull;
+import com.viaversion.viaversion.libs.gson.JsonObject;
+import com.viaversion.viaversion.libs.gson.JsonPrimitive;
+import com.viaversion.viaversion.util.GsonUtil;
+import de.florianmichael.viafabricplus.ViaFabricPlus;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Binary snapshots of the json files loaded by {@link ViaFabricPlusMappingDataLoader}. A snapshot is only used if the format
+ * version and the checksum of the bundled resource it was built from still match.
+ */
+@SuppressWarnings("ResultOfMethodCallIgnored")
+public class MappingDataCache {
+
+    private static final int MAGIC = 0x56465043; // "VFPC"
+    private static final int FORMAT_VERSION = 2;
+
+    private static final byte NULL = 0;
+    private static final byte OBJECT = 1;
+    private static final byte ARRAY = 2;
+    private static final byte STRING = 3;
+    private static final byte BOOLEAN = 4;
+    private static final byte LONG = 5;
+    private static final byte DOUBLE = 6;
+
+    private final File directory;
+
+    /**
+     * @param directory The directory the snapshots are stored in
+     */
+    public MappingDataCache(final File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Loads the given json file from its snapshot, or parses it and writes a new snapshot if there is no valid one.
+     *
+     * @param name     The name of the json file
+     * @param resource The raw bytes of the bundled json file
+     * @return The parsed json object
+     */
+    public JsonObject load(final String name, final byte[] resource) {
+        final CRC32 crc = new CRC32();
+        crc.update(resource);
+        final long checksum = crc.getValue();
+
+        final File file = new File(directory, name + ".bin");
+        final JsonObject cached = read(file, checksum);
+        if (cached != null) {
+            return cached;
+        }
+
+        final JsonObject data = GsonUtil.getGson().fromJson(new String(resource, StandardCharsets.UTF_8), JsonObject.class);
+        write(file, checksum, data);
+        return data;
+    }
+
+    private JsonObject read(final File file, final long checksum) {
+        if (!file.exists()) {
+            return null;
+        }
+        // Read into the heap instead of mapping the file, a live mapping would prevent replacing the file on Windows
+        try (final DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(file.toPath())))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION || in.readLong() != checksum) {
+                return null;
+            }
+            return readElement(in).getAsJsonObject();
+        } catch (Exception e) {
+            ViaFabricPlus.global().getLogger().warn("Failed to read mapping data cache {}, rebuilding it", file.getName(), e);
+            return null;
+        }
+    }
+
+    private void write(final File file, final long checksum, final JsonObject data) {
+        final Path target = file.toPath();
+        final Path temp = target.resolveSibling(file.getName() + ".tmp");
+        try {
+            Files.createDirectories(target.getParent());
+            try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(checksum);
+                writeElement(out, data);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            ViaFabricPlus.global().getLogger().error("Failed to write mapping data cache {}!", file.getName(), e);
+            temp.toFile().delete();
+        }
+    }
+
+    private static JsonElement readElement(final DataInputStream in) throws IOException {
+        final byte type = in.readByte();
+        switch (type) {
+            case NULL -> {
+                return JsonNull.INSTANCE;
+            }
+            case OBJECT -> {
+                final int size = in.readInt();
+                final JsonObject object = new JsonObject();
+                for (int i = 0; i < size; i++) {
+                    object.add(readString(in), readElement(in));
+                }
+                return object;
+            }
+            case ARRAY -> {
+                final int size = in.readInt();
+                final JsonArray array = new JsonArray(size);
+                for (int i = 0; i < size; i++) {
+                    array.add(readElement(in));
+                }
+                return array;
+            }
+            case STRING -> {
+                return new JsonPrimitive(readString(in));
+            }
+            case BOOLEAN -> {
+                return new JsonPrimitive(in.readBoolean());
+            }
+            case LONG -> {
+                return new JsonPrimitive(in.readLong());
+            }
+            case DOUBLE -> {
+                return new JsonPrimitive(in.readDouble());
+            }
+            default -> throw new IOException("Unknown element type: " + type);
+        }
+    }
+
+    private static void writeElement(final DataOutputStream out, final JsonElement element) throws IOException {
+        if (element.isJsonObject()) {
+            final JsonObject object = element.getAsJsonObject();
+            out.writeByte(OBJECT);
+            out.writeInt(object.size());
+            for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+                writeString(out, entry.getKey());
+                writeElement(out, entry.getValue());
+            }
+        } else if (element.isJsonArray()) {
+            final JsonArray array = element.getAsJsonArray();
+            out.writeByte(ARRAY);
+            out.writeInt(array.size());
+            for (JsonElement value : array) {
+                writeElement(out, value);
+            }
+        } else if (element.isJsonPrimitive()) {
+            final JsonPrimitive primitive = element.getAsJsonPrimitive();
+            if (primitive.isBoolean()) {
+                out.writeByte(BOOLEAN);
+                out.writeBoolean(primitive.getAsBoolean());
+            } else if (primitive.isNumber()) {
+                final String number = primitive.getAsString();
+                try {
+                    final long value = Long.parseLong(number);
+                    out.writeByte(LONG);
+                    out.writeLong(value);
+                } catch (NumberFormatException e) {
+                    out.writeByte(DOUBLE);
+                    out.writeDouble(primitive.getAsDouble());
+                }
+            } else {
+                out.writeByte(STRING);
+                writeString(out, primitive.getAsString());
+            }
+        } else {
+            out.writeByte(NULL);
+        }
+    }
+
+    private static String readString(final DataInputStream in) throws IOException {
+        final byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+}
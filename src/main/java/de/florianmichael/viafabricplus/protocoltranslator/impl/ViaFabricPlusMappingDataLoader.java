@@ -23,10 +23,15 @@ import com.viaversion.viaversion.api.data.MappingDataLoader;
 import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
 import com.viaversion.viaversion.libs.gson.JsonElement;
 import com.viaversion.viaversion.libs.gson.JsonObject;
+import de.florianmichael.viafabricplus.ViaFabricPlus;
 import de.florianmichael.viafabricplus.protocoltranslator.ProtocolTranslator;
+import de.florianmichael.viafabricplus.settings.impl.GeneralSettings;
 import net.minecraft.block.Block;
 import net.minecraft.registry.Registries;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -37,9 +42,29 @@ public class ViaFabricPlusMappingDataLoader extends MappingDataLoader {
 
     public static final ViaFabricPlusMappingDataLoader INSTANCE = new ViaFabricPlusMappingDataLoader();
 
+    /**
+     * Binary snapshots of the loaded json files, null if caching is disabled
+     */
+    private final MappingDataCache cache;
+
     private ViaFabricPlusMappingDataLoader() {
         super(ViaFabricPlusMappingDataLoader.class, "assets/viafabricplus/data/");
 
+        this.cache = GeneralSettings.global().cacheMappingData.getValue() ? new MappingDataCache(new File(ViaFabricPlus.global().getDirectory(), "mappings")) : null;
+        loadMaterials();
+    }
+
+    @Override
+    public JsonObject loadData(final String name) {
+        if (this.cache == null) {
+            return super.loadData(name);
+        }
+
+        // Use the binary snapshot of the last launch if the bundled data didn't change
+        return this.cache.load(name, readResource(name));
+    }
+
+    private void loadMaterials() {
         final JsonObject materialsData = this.loadData("materials-1.19.4.json");
         for (Map.Entry<String, JsonElement> entry : materialsData.getAsJsonObject("materials").entrySet()) {
             final JsonObject materialData = entry.getValue().getAsJsonObject();
@@ -61,6 +86,17 @@ public class ViaFabricPlusMappingDataLoader extends MappingDataLoader {
         }
     }
 
+    private byte[] readResource(final String name) {
+        try (final InputStream stream = ViaFabricPlusMappingDataLoader.class.getClassLoader().getResourceAsStream("assets/viafabricplus/data/" + name)) {
+            if (stream == null) {
+                throw new IllegalStateException("Missing bundled mapping file: " + name);
+            }
+            return stream.readAllBytes();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read bundled mapping file: " + name, e);
+        }
+    }
+
     public static String getBlockMaterial(final Block block) {
         return getBlockMaterial(block, ProtocolTranslator.getTargetVersion());
     }
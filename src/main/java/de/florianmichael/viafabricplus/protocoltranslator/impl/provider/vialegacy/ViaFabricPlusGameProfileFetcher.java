@@ -26,12 +26,18 @@ import com.mojang.authlib.minecraft.MinecraftSessionService;
 import com.mojang.authlib.yggdrasil.ProfileNotFoundException;
 import com.mojang.authlib.yggdrasil.ProfileResult;
 import com.mojang.authlib.yggdrasil.YggdrasilAuthenticationService;
+import de.florianmichael.viafabricplus.ViaFabricPlus;
+import de.florianmichael.viafabricplus.save.impl.GameProfileCacheSave;
 import net.raphimc.vialegacy.protocol.release.r1_7_6_10tor1_8.model.GameProfile;
 import net.raphimc.vialegacy.protocol.release.r1_7_6_10tor1_8.provider.GameProfileFetcher;
 
 import java.net.Proxy;
+import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 
 public class ViaFabricPlusGameProfileFetcher extends GameProfileFetcher {
 
@@ -39,8 +45,76 @@ public class ViaFabricPlusGameProfileFetcher extends GameProfileFetcher {
     private static final MinecraftSessionService SESSION_SERVICE = AUTHENTICATION_SERVICE.createMinecraftSessionService();
     private static final GameProfileRepository GAME_PROFILE_REPOSITORY = AUTHENTICATION_SERVICE.createProfileRepository();
 
+    /**
+     * Lookups which are currently running, concurrent requests for the same player wait for the same future instead of doing a second lookup
+     */
+    private static final Map<String, CompletableFuture<UUID>> PENDING_UUID_LOOKUPS = new ConcurrentHashMap<>();
+    private static final Map<UUID, CompletableFuture<com.mojang.authlib.GameProfile>> PENDING_PROFILE_LOOKUPS = new ConcurrentHashMap<>();
+
     @Override
     public UUID loadMojangUUID(String playerName) throws Exception {
+        final GameProfileCacheSave cache = ViaFabricPlus.global().getSaveManager().getGameProfileCacheSave();
+        final UUID cachedUuid = cache.getUuid(playerName);
+        if (cachedUuid != null) {
+            return cachedUuid;
+        }
+
+        final String key = playerName.toLowerCase(Locale.ROOT);
+        final CompletableFuture<UUID> future = new CompletableFuture<>();
+        final CompletableFuture<UUID> pendingFuture = PENDING_UUID_LOOKUPS.putIfAbsent(key, future);
+        if (pendingFuture != null) {
+            return join(pendingFuture);
+        }
+
+        try {
+            final UUID uuid = lookupMojangUUID(playerName);
+            cache.putUuid(playerName, uuid);
+            future.complete(uuid);
+            return uuid;
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            PENDING_UUID_LOOKUPS.remove(key, future);
+        }
+    }
+
+    @Override
+    public GameProfile loadGameProfile(UUID uuid) {
+        final GameProfileCacheSave cache = ViaFabricPlus.global().getSaveManager().getGameProfileCacheSave();
+        final com.mojang.authlib.GameProfile cachedProfile = cache.getProfile(uuid);
+        if (cachedProfile != null) {
+            return toViaLegacyProfile(cachedProfile);
+        }
+
+        final CompletableFuture<com.mojang.authlib.GameProfile> future = new CompletableFuture<>();
+        final CompletableFuture<com.mojang.authlib.GameProfile> pendingFuture = PENDING_PROFILE_LOOKUPS.putIfAbsent(uuid, future);
+        if (pendingFuture != null) {
+            try {
+                return toViaLegacyProfile(join(pendingFuture));
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        try {
+            final ProfileResult result = SESSION_SERVICE.fetchProfile(uuid, true);
+            if (result == null) throw new ProfileNotFoundException();
+
+            cache.putProfile(uuid, result.profile());
+            future.complete(result.profile());
+            return toViaLegacyProfile(result.profile());
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            PENDING_PROFILE_LOOKUPS.remove(uuid, future);
+        }
+    }
+
+    private static UUID lookupMojangUUID(final String playerName) throws Exception {
         final CompletableFuture<com.mojang.authlib.GameProfile> future = new CompletableFuture<>();
         GAME_PROFILE_REPOSITORY.findProfilesByNames(new String[]{playerName}, new ProfileLookupCallback() {
             @Override
@@ -56,15 +130,10 @@ public class ViaFabricPlusGameProfileFetcher extends GameProfileFetcher {
         if (!future.isDone()) {
             future.completeExceptionally(new ProfileNotFoundException());
         }
-        return future.get().getId();
+        return join(future).getId();
     }
 
-    @Override
-    public GameProfile loadGameProfile(UUID uuid) {
-        final ProfileResult result = SESSION_SERVICE.fetchProfile(uuid, true);
-        if (result == null) throw new ProfileNotFoundException();
-
-        final var authLibProfile = result.profile();
+    private static GameProfile toViaLegacyProfile(final com.mojang.authlib.GameProfile authLibProfile) {
         final var mcProfile = new GameProfile(authLibProfile.getName(), authLibProfile.getId());
 
         for (final var entry : authLibProfile.getProperties().entries()) {
@@ -73,4 +142,18 @@ public class ViaFabricPlusGameProfileFetcher extends GameProfileFetcher {
         return mcProfile;
     }
 
+    /**
+     * Waits for the future and rethrows the original exception of the lookup instead of the wrapping {@link ExecutionException}
+     */
+    private static <T> T join(final CompletableFuture<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
 }
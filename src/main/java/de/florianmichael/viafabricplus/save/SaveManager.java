@@ -21,6 +21,8 @@ package de.florianmichael.viafabricplus.save;
 
 import de.florianmichael.viafabricplus.event.LoadSaveFilesCallback;
 import de.florianmichael.viafabricplus.save.impl.AccountsSave;
+import de.florianmichael.viafabricplus.save.impl.GameProfileCacheSave;
+import de.florianmichael.viafabricplus.save.impl.ServerListCacheSave;
 import de.florianmichael.viafabricplus.save.impl.SettingsSave;
 import de.florianmichael.viafabricplus.settings.SettingsManager;
 import org.jetbrains.annotations.ApiStatus;
@@ -35,6 +37,8 @@ public class SaveManager {
 
     private final SettingsSave settingsSave;
     private final AccountsSave accountsSave;
+    private final GameProfileCacheSave gameProfileCacheSave;
+    private final ServerListCacheSave serverListCacheSave;
 
     public SaveManager(final SettingsManager settingsManager) {
         LoadSaveFilesCallback.EVENT.invoker().onLoadSaveFiles(this, LoadSaveFilesCallback.State.PRE);
@@ -42,7 +46,9 @@ public class SaveManager {
         // Register saves
         add(
                 settingsSave = new SettingsSave(settingsManager),
-                accountsSave = new AccountsSave()
+                accountsSave = new AccountsSave(),
+                gameProfileCacheSave = new GameProfileCacheSave(),
+                serverListCacheSave = new ServerListCacheSave()
         );
 
         // Load save files
@@ -79,4 +85,12 @@ public class SaveManager {
         return accountsSave;
     }
 
+    public GameProfileCacheSave getGameProfileCacheSave() {
+        return gameProfileCacheSave;
+    }
+
+    public ServerListCacheSave getServerListCacheSave() {
+        return serverListCacheSave;
+    }
+
 }
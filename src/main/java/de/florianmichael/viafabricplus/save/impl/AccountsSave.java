@@ -19,18 +19,44 @@
 
 package de.florianmichael.viafabricplus.save.impl;
 
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
 import de.florianmichael.classic4j.model.classicube.account.CCAccount;
 import de.florianmichael.viafabricplus.ViaFabricPlus;
 import de.florianmichael.viafabricplus.save.AbstractSave;
 import net.raphimc.minecraftauth.MinecraftAuth;
 import net.raphimc.minecraftauth.step.bedrock.session.StepFullBedrockSession;
 
+import java.util.Map;
+import java.util.concurrent.*;
+
 public class AccountsSave extends AbstractSave {
 
-    private StepFullBedrockSession.FullBedrockSession bedrockAccount;
+    /**
+     * How long before the expiry of the session it's refreshed in the background
+     */
+    public static final long BEDROCK_REFRESH_LEAD_TIME_MS = TimeUnit.MINUTES.toMillis(5);
+
+    /**
+     * Runs the background expiry check and all session refreshes, so the blocking http requests don't occupy the common pool
+     */
+    private final ScheduledExecutorService bedrockRefreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "ViaFabricPlus Bedrock session refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile StepFullBedrockSession.FullBedrockSession bedrockAccount;
     private CCAccount classicubeAccount;
 
+    private CompletableFuture<StepFullBedrockSession.FullBedrockSession> bedrockRefreshFuture;
+
+    /**
+     * The account of the last failed background refresh, it won't be refreshed in the background again until the account changes
+     */
+    private volatile StepFullBedrockSession.FullBedrockSession failedBedrockAccount;
+
     public AccountsSave() {
         super("accounts");
     }
@@ -63,16 +89,110 @@ public class AccountsSave extends AbstractSave {
         }
     }
 
+    @Override
+    public void postInit() {
+        bedrockRefreshExecutor.scheduleWithFixedDelay(() -> {
+            final StepFullBedrockSession.FullBedrockSession account = bedrockAccount;
+            if (account == null || account == failedBedrockAccount) {
+                return;
+            }
+
+            switch (getRefreshAction(account.isExpired(), getExpireTimeMs(account), System.currentTimeMillis())) {
+                case REFRESH -> refreshBedrockAccount(false);
+                case PRE_REFRESH -> refreshBedrockAccount(true);
+            }
+        }, 0, 30, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Returns the bedrock account for joining a server, this will only block if a step of the session is expired and
+     * it hasn't been refreshed in the background yet.
+     *
+     * @return The bedrock account or null if there is no account
+     */
     public StepFullBedrockSession.FullBedrockSession refreshAndGetBedrockAccount() {
-        if (bedrockAccount == null) return null;
+        final StepFullBedrockSession.FullBedrockSession account = bedrockAccount;
+        if (account == null) return null;
 
-        try {
-            bedrockAccount = MinecraftAuth.BEDROCK_DEVICE_CODE_LOGIN.refresh(MinecraftAuth.createHttpClient(), bedrockAccount);
-        } catch (Throwable t) {
-            throw new RuntimeException("Failed to refresh Bedrock chain data. Please re-login to Bedrock!", t);
+        if (account.isExpired()) {
+            try {
+                return refreshBedrockAccount(false).join();
+            } catch (CompletionException e) {
+                throw new RuntimeException("Failed to refresh Bedrock chain data. Please re-login to Bedrock!", e.getCause());
+            }
         }
+        return account;
+    }
 
-        return bedrockAccount;
+    /**
+     * Refreshes the bedrock account in the background, if there is already a refresh running, the running one is returned.
+     *
+     * @param force Whether all tokens should be renewed, MinecraftAuth only renews expired tokens otherwise
+     * @return A future which will be completed with the refreshed account
+     */
+    public synchronized CompletableFuture<StepFullBedrockSession.FullBedrockSession> refreshBedrockAccount(final boolean force) {
+        if (bedrockRefreshFuture == null || bedrockRefreshFuture.isDone()) {
+            final StepFullBedrockSession.FullBedrockSession account = bedrockAccount;
+            bedrockRefreshFuture = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return MinecraftAuth.BEDROCK_DEVICE_CODE_LOGIN.refresh(MinecraftAuth.createHttpClient(), force ? expireTokens(account) : account);
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            }, bedrockRefreshExecutor).whenComplete((refreshedAccount, throwable) -> {
+                if (throwable != null) {
+                    failedBedrockAccount = account;
+                    ViaFabricPlus.global().getLogger().warn("Failed to refresh Bedrock chain data!", throwable);
+                } else if (bedrockAccount == account) { // Don't override an account which has been set in the meantime
+                    bedrockAccount = refreshedAccount;
+                }
+            });
+        }
+        return bedrockRefreshFuture;
+    }
+
+    /**
+     * @param expired       Whether MinecraftAuth considers any step of the session expired
+     * @param expireTimeMs  The earliest expiry time of the session tokens
+     * @param currentTimeMs The current time in milliseconds
+     * @return What should be done with the session
+     */
+    public static RefreshAction getRefreshAction(final boolean expired, final long expireTimeMs, final long currentTimeMs) {
+        if (expired || expireTimeMs <= currentTimeMs) {
+            return RefreshAction.REFRESH;
+        } else if (expireTimeMs - currentTimeMs <= BEDROCK_REFRESH_LEAD_TIME_MS) {
+            return RefreshAction.PRE_REFRESH;
+        } else {
+            return RefreshAction.NONE;
+        }
+    }
+
+    /**
+     * @param account The bedrock account
+     * @return The earliest expiry time of the short-lived tokens of the account
+     */
+    private static long getExpireTimeMs(final StepFullBedrockSession.FullBedrockSession account) {
+        return Math.min(account.getMcChain().getXblXsts().getExpireTimeMs(), account.getPlayFabToken().getExpireTimeMs());
+    }
+
+    /**
+     * @param account The bedrock account
+     * @return A copy of the account with all tokens marked as expired, so MinecraftAuth renews the whole chain
+     */
+    private static StepFullBedrockSession.FullBedrockSession expireTokens(final StepFullBedrockSession.FullBedrockSession account) {
+        final JsonObject json = MinecraftAuth.BEDROCK_DEVICE_CODE_LOGIN.toJson(account);
+        expireTokens(json);
+        return MinecraftAuth.BEDROCK_DEVICE_CODE_LOGIN.fromJson(json);
+    }
+
+    private static void expireTokens(final JsonObject object) {
+        for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+            if (entry.getKey().equals("expireTimeMs")) {
+                entry.setValue(new JsonPrimitive(0L));
+            } else if (entry.getValue().isJsonObject()) {
+                expireTokens(entry.getValue().getAsJsonObject());
+            }
+        }
     }
 
     public StepFullBedrockSession.FullBedrockSession getBedrockAccount() {
@@ -91,4 +211,23 @@ public class AccountsSave extends AbstractSave {
         this.classicubeAccount = classicubeAccount;
     }
 
+    public enum RefreshAction {
+
+        /**
+         * The session is valid for longer than the lead time
+         */
+        NONE,
+
+        /**
+         * The session will expire soon and should be renewed in the background
+         */
+        PRE_REFRESH,
+
+        /**
+         * The session is expired and has to be refreshed before it can be used
+         */
+        REFRESH
+
+    }
+
 }
@@ -0,0 +1,216 @@
+/*
+ * This file is part of ViaFabricPlus - https://github.com/FlorianMichael/ViaFabricPlus
+ * Copyright (C) 2021-2024 FlorianMichael/EnZaXD <florian.michael07@gmail.com> and RK_01/RaphiMC
+ * Copyright (C) 2023-2024 contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.florianmichael.viafabricplus.save.impl;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.mojang.authlib.GameProfile;
+import com.mojang.authlib.properties.Property;
+import de.florianmichael.viafabricplus.ViaFabricPlus;
+import de.florianmichael.viafabricplus.save.AbstractSave;
+import de.florianmichael.viafabricplus.settings.impl.GeneralSettings;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Stores the results of the name to uuid and uuid to profile lookups done for legacy skin and skull loading,
+ * see {@link de.florianmichael.viafabricplus.protocoltranslator.impl.provider.vialegacy.ViaFabricPlusGameProfileFetcher}.
+ * Both maps are bounded LRU maps, entries older than the duration selected in {@link GeneralSettings#profileCacheDuration} are ignored.
+ */
+public class GameProfileCacheSave extends AbstractSave {
+
+    private static final int MAX_ENTRIES = 1024;
+
+    private final Map<String, Entry<UUID>> uuids = createLruMap();
+    private final Map<UUID, Entry<GameProfile>> profiles = createLruMap();
+
+    public GameProfileCacheSave() {
+        super("profile-cache");
+    }
+
+    @Override
+    public void write(JsonObject object) {
+        final long ttl = getTimeToLive();
+        if (ttl <= 0) {
+            return;
+        }
+
+        final JsonObject uuidsObject = new JsonObject();
+        synchronized (uuids) {
+            for (Map.Entry<String, Entry<UUID>> entry : uuids.entrySet()) {
+                if (entry.getValue().isValid(ttl)) {
+                    final JsonObject entryObject = new JsonObject();
+                    entryObject.addProperty("uuid", entry.getValue().value().toString());
+                    entryObject.addProperty("timestamp", entry.getValue().timestamp());
+                    uuidsObject.add(entry.getKey(), entryObject);
+                }
+            }
+        }
+        object.add("uuids", uuidsObject);
+
+        final JsonObject profilesObject = new JsonObject();
+        synchronized (profiles) {
+            for (Map.Entry<UUID, Entry<GameProfile>> entry : profiles.entrySet()) {
+                if (entry.getValue().isValid(ttl)) {
+                    final GameProfile profile = entry.getValue().value();
+
+                    final JsonArray propertiesArray = new JsonArray();
+                    for (Property property : profile.getProperties().values()) {
+                        final JsonObject propertyObject = new JsonObject();
+                        propertyObject.addProperty("name", property.name());
+                        propertyObject.addProperty("value", property.value());
+                        if (property.signature() != null) {
+                            propertyObject.addProperty("signature", property.signature());
+                        }
+                        propertiesArray.add(propertyObject);
+                    }
+
+                    final JsonObject entryObject = new JsonObject();
+                    entryObject.addProperty("name", profile.getName());
+                    entryObject.add("properties", propertiesArray);
+                    entryObject.addProperty("timestamp", entry.getValue().timestamp());
+                    profilesObject.add(entry.getKey().toString(), entryObject);
+                }
+            }
+        }
+        object.add("profiles", profilesObject);
+    }
+
+    @Override
+    public void read(JsonObject object) {
+        if (object.has("uuids")) {
+            for (Map.Entry<String, JsonElement> entry : object.getAsJsonObject("uuids").entrySet()) {
+                try {
+                    final JsonObject entryObject = entry.getValue().getAsJsonObject();
+                    uuids.put(entry.getKey(), new Entry<>(UUID.fromString(entryObject.get("uuid").getAsString()), entryObject.get("timestamp").getAsLong()));
+                } catch (Exception e) {
+                    ViaFabricPlus.global().getLogger().error("Failed to read cached uuid of " + entry.getKey() + "!", e);
+                }
+            }
+        }
+        if (object.has("profiles")) {
+            for (Map.Entry<String, JsonElement> entry : object.getAsJsonObject("profiles").entrySet()) {
+                try {
+                    final JsonObject entryObject = entry.getValue().getAsJsonObject();
+                    final UUID uuid = UUID.fromString(entry.getKey());
+
+                    final GameProfile profile = new GameProfile(uuid, entryObject.get("name").getAsString());
+                    for (JsonElement element : entryObject.getAsJsonArray("properties")) {
+                        final JsonObject propertyObject = element.getAsJsonObject();
+                        final String name = propertyObject.get("name").getAsString();
+                        final String signature = propertyObject.has("signature") ? propertyObject.get("signature").getAsString() : null;
+
+                        profile.getProperties().put(name, new Property(name, propertyObject.get("value").getAsString(), signature));
+                    }
+                    profiles.put(uuid, new Entry<>(profile, entryObject.get("timestamp").getAsLong()));
+                } catch (Exception e) {
+                    ViaFabricPlus.global().getLogger().error("Failed to read cached profile of " + entry.getKey() + "!", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param playerName The name of the player
+     * @return The cached uuid of the player or null if there is no valid entry
+     */
+    public UUID getUuid(final String playerName) {
+        return get(uuids, playerName.toLowerCase(Locale.ROOT));
+    }
+
+    public void putUuid(final String playerName, final UUID uuid) {
+        put(uuids, playerName.toLowerCase(Locale.ROOT), uuid);
+    }
+
+    /**
+     * @param uuid The uuid of the player
+     * @return The cached profile of the player or null if there is no valid entry
+     */
+    public GameProfile getProfile(final UUID uuid) {
+        return get(profiles, uuid);
+    }
+
+    public void putProfile(final UUID uuid, final GameProfile profile) {
+        put(profiles, uuid, profile);
+    }
+
+    private <K, V> V get(final Map<K, Entry<V>> map, final K key) {
+        final long ttl = getTimeToLive();
+        if (ttl <= 0) {
+            return null;
+        }
+
+        synchronized (map) {
+            final Entry<V> entry = map.get(key);
+            if (entry == null) {
+                return null;
+            } else if (!entry.isValid(ttl)) {
+                map.remove(key);
+                return null;
+            } else {
+                return entry.value();
+            }
+        }
+    }
+
+    private <K, V> void put(final Map<K, Entry<V>> map, final K key, final V value) {
+        if (getTimeToLive() <= 0) {
+            return;
+        }
+
+        synchronized (map) {
+            map.put(key, new Entry<>(value, System.currentTimeMillis()));
+        }
+    }
+
+    /**
+     * @return The time in milliseconds an entry stays valid, or 0 if caching is disabled
+     */
+    private static long getTimeToLive() {
+        return switch (GeneralSettings.global().profileCacheDuration.getIndex()) {
+            case 0 -> 60 * 60 * 1000L; // 1 hour
+            case 1 -> 24 * 60 * 60 * 1000L; // 1 day
+            case 2 -> 7 * 24 * 60 * 60 * 1000L; // 1 week
+            default -> 0;
+        };
+    }
+
+    private static <K, V> Map<K, V> createLruMap() {
+        return new LinkedHashMap<>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+    }
+
+    private record Entry<T>(T value, long timestamp) {
+
+        public boolean isValid(final long ttl) {
+            return System.currentTimeMillis() - timestamp < ttl;
+        }
+
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * This file is part of ViaFabricPlus - https://github.com/FlorianMichael/ViaFabricPlus
+ * Copyright (C) 2021-2024 FlorianMichael/EnZaXD <florian.michael07@gmail.com> and RK_01/RaphiMC
+ * Copyright (C) 2023-2024 contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.florianmichael.viafabricplus.save.impl;
+
+import com.google.gson.*;
+import com.google.gson.reflect.TypeToken;
+import de.florianmichael.classic4j.model.betacraft.BCServerInfoSpec;
+import de.florianmichael.classic4j.model.betacraft.BCServerList;
+import de.florianmichael.classic4j.model.classicube.server.CCServerInfo;
+import de.florianmichael.viafabricplus.ViaFabricPlus;
+import de.florianmichael.viafabricplus.save.AbstractSave;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores the last successfully fetched ClassiCube and BetaCraft server lists, so they can be shown immediately in a new session
+ * while the lists are refreshed in the background.
+ */
+public class ServerListCacheSave extends AbstractSave {
+
+    private static final Type CLASSICUBE_SERVERS_TYPE = new TypeToken<List<CCServerInfo>>() {
+    }.getType();
+
+    /**
+     * BetaCraft servers are stored behind the {@link BCServerInfoSpec} interface, so the implementation class is stored next to the data
+     */
+    private static final Gson SERVER_LIST_GSON = new GsonBuilder().registerTypeHierarchyAdapter(BCServerInfoSpec.class, new ServerInfoSpecAdapter()).create();
+
+    /**
+     * Both lists are set from the fetching threads while the save may be written from the shutdown hook
+     */
+    private volatile List<CCServerInfo> classiCubeServers = new ArrayList<>();
+    private volatile BCServerList betaCraftServers;
+
+    public ServerListCacheSave() {
+        super("server-lists");
+    }
+
+    @Override
+    public void write(JsonObject object) {
+        final List<CCServerInfo> classiCubeServers = this.classiCubeServers;
+        if (!classiCubeServers.isEmpty()) {
+            object.add("classicube", writeClassiCubeServers(classiCubeServers));
+        }
+        final BCServerList betaCraftServers = this.betaCraftServers;
+        if (betaCraftServers != null) {
+            object.add("betacraft", writeBetaCraftServers(betaCraftServers));
+        }
+    }
+
+    @Override
+    public void read(JsonObject object) {
+        if (object.has("classicube")) {
+            try {
+                classiCubeServers = readClassiCubeServers(object.get("classicube"));
+            } catch (Exception e) {
+                ViaFabricPlus.global().getLogger().error("Failed to read cached ClassiCube server list!", e);
+            }
+        }
+        if (object.has("betacraft")) {
+            try {
+                betaCraftServers = readBetaCraftServers(object.get("betacraft"));
+            } catch (Exception e) {
+                ViaFabricPlus.global().getLogger().error("Failed to read cached BetaCraft server list!", e);
+            }
+        }
+    }
+
+    public static JsonElement writeClassiCubeServers(final List<CCServerInfo> servers) {
+        return SERVER_LIST_GSON.toJsonTree(servers, CLASSICUBE_SERVERS_TYPE);
+    }
+
+    public static List<CCServerInfo> readClassiCubeServers(final JsonElement element) {
+        return SERVER_LIST_GSON.fromJson(element, CLASSICUBE_SERVERS_TYPE);
+    }
+
+    public static JsonElement writeBetaCraftServers(final BCServerList serverList) {
+        return SERVER_LIST_GSON.toJsonTree(serverList, BCServerList.class);
+    }
+
+    public static BCServerList readBetaCraftServers(final JsonElement element) {
+        return SERVER_LIST_GSON.fromJson(element, BCServerList.class);
+    }
+
+    public List<CCServerInfo> getClassiCubeServers() {
+        return classiCubeServers;
+    }
+
+    public void setClassiCubeServers(List<CCServerInfo> classiCubeServers) {
+        this.classiCubeServers = new ArrayList<>(classiCubeServers);
+    }
+
+    public BCServerList getBetaCraftServers() {
+        return betaCraftServers;
+    }
+
+    public void setBetaCraftServers(BCServerList betaCraftServers) {
+        this.betaCraftServers = betaCraftServers;
+    }
+
+    static class ServerInfoSpecAdapter implements JsonSerializer<BCServerInfoSpec>, JsonDeserializer<BCServerInfoSpec> {
+
+        private static final Gson GSON = new Gson();
+
+        @Override
+        public JsonElement serialize(BCServerInfoSpec src, Type typeOfSrc, JsonSerializationContext context) {
+            final JsonObject object = new JsonObject();
+            object.addProperty("type", src.getClass().getName());
+            object.add("data", GSON.toJsonTree(src));
+            return object;
+        }
+
+        @Override
+        public BCServerInfoSpec deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) throws JsonParseException {
+            final JsonObject object = json.getAsJsonObject();
+            try {
+                // Don't initialize the class before checking it, the type name comes from a user editable file
+                final Class<?> type = Class.forName(object.get("type").getAsString(), false, BCServerInfoSpec.class.getClassLoader());
+                if (!BCServerInfoSpec.class.isAssignableFrom(type)) {
+                    throw new JsonParseException("Invalid server info type: " + type.getName());
+                }
+                return (BCServerInfoSpec) GSON.fromJson(object.get("data"), type);
+            } catch (ClassNotFoundException e) {
+                throw new JsonParseException("Unknown server info type", e);
+            }
+        }
+
+    }
+
+}
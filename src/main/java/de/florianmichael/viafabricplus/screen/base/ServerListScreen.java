@@ -19,7 +19,6 @@
 
 package de.florianmichael.viafabricplus.screen.base;
 
-import de.florianmichael.classic4j.BetaCraftHandler;
 import de.florianmichael.viafabricplus.ViaFabricPlus;
 import de.florianmichael.viafabricplus.screen.VFPScreen;
 import de.florianmichael.viafabricplus.screen.classic4j.BetaCraftScreen;
@@ -64,11 +63,7 @@ public class ServerListScreen extends VFPScreen {
             if (BetaCraftScreen.SERVER_LIST == null) {
                 betaCraftButton = button;
 
-                BetaCraftHandler.requestV1ServerList(serverList -> {
-                    BetaCraftScreen.SERVER_LIST = serverList;
-
-                    BetaCraftScreen.INSTANCE.open(this);
-                }, throwable -> showErrorScreen(BetaCraftScreen.INSTANCE.getTitle(), throwable, this));
+                BetaCraftScreen.requestServerList(() -> BetaCraftScreen.INSTANCE.open(this), throwable -> showErrorScreen(BetaCraftScreen.INSTANCE.getTitle(), throwable, this));
 
             } else {
                 BetaCraftScreen.INSTANCE.open(this);
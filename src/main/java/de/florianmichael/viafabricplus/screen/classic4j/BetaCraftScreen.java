@@ -19,9 +19,12 @@
 
 package de.florianmichael.viafabricplus.screen.classic4j;
 
+import com.mojang.blaze3d.systems.RenderSystem;
+import de.florianmichael.classic4j.BetaCraftHandler;
 import de.florianmichael.classic4j.model.betacraft.BCServerInfoSpec;
 import de.florianmichael.classic4j.model.betacraft.BCServerList;
 import de.florianmichael.classic4j.model.betacraft.BCVersionCategory;
+import de.florianmichael.viafabricplus.ViaFabricPlus;
 import de.florianmichael.viafabricplus.screen.VFPList;
 import de.florianmichael.viafabricplus.screen.VFPListEntry;
 import de.florianmichael.viafabricplus.screen.VFPScreen;
@@ -39,29 +42,68 @@ import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public class BetaCraftScreen extends VFPScreen {
 
     public static final BetaCraftScreen INSTANCE = new BetaCraftScreen();
 
-    public static BCServerList SERVER_LIST;
+    public static BCServerList SERVER_LIST = ViaFabricPlus.global().getSaveManager().getServerListCacheSave().getBetaCraftServers();
     private static final String BETA_CRAFT_SERVER_LIST_URL = "https://betacraft.uk/serverlist/";
 
+    /**
+     * The cached server list from the last session is shown first, this field tracks if it has been refreshed already
+     */
+    private static volatile boolean serverListRefreshed;
+
+    private SlotList slotList;
+
     protected BetaCraftScreen() {
         super("BetaCraft", true);
     }
 
+    /**
+     * Requests the server list, stores it in the cache and updates the list of the screen if it's open
+     *
+     * @param successAction The action which should be executed on the render thread after the list has been updated
+     * @param errorAction   The action which should be executed if the request failed
+     */
+    public static void requestServerList(final Runnable successAction, final Consumer<Throwable> errorAction) {
+        serverListRefreshed = true;
+        BetaCraftHandler.requestV1ServerList(serverList -> {
+            ViaFabricPlus.global().getSaveManager().getServerListCacheSave().setBetaCraftServers(serverList);
+
+            RenderSystem.recordRenderCall(() -> {
+                SERVER_LIST = serverList;
+                if (INSTANCE.slotList != null) {
+                    INSTANCE.slotList.reloadEntries();
+                }
+                successAction.run();
+            });
+        }, throwable -> {
+            serverListRefreshed = false;
+            errorAction.accept(throwable);
+        });
+    }
+
     @Override
     protected void init() {
         this.setupSubtitle(Text.of(BETA_CRAFT_SERVER_LIST_URL), ConfirmLinkScreen.opening(this, BETA_CRAFT_SERVER_LIST_URL));
-        this.addDrawableChild(new SlotList(this.client, width, height, 3 + 3 /* start offset */ + (textRenderer.fontHeight + 2) * 3 /* title is 2 */, -5, (textRenderer.fontHeight + 2) * 3));
+        this.addDrawableChild(slotList = new SlotList(this.client, width, height, 3 + 3 /* start offset */ + (textRenderer.fontHeight + 2) * 3 /* title is 2 */, -5, (textRenderer.fontHeight + 2) * 3));
 
         this.addDrawableChild(ButtonWidget.builder(ControlsListWidget.KeyBindingEntry.RESET_TEXT, button -> {
             SERVER_LIST = null;
+            serverListRefreshed = false;
             client.setScreen(prevScreen);
         }).position(width - 98 - 5, 5).size(98, 20).build());
 
         super.init();
+
+        // Refresh the cached list from the last session in the background
+        if (!serverListRefreshed) {
+            requestServerList(() -> {
+            }, throwable -> ViaFabricPlus.global().getLogger().warn("Failed to refresh BetaCraft server list!", throwable));
+        }
     }
 
     @Override
@@ -76,6 +118,12 @@ public class BetaCraftScreen extends VFPScreen {
 
         public SlotList(MinecraftClient minecraftClient, int width, int height, int top, int bottom, int entryHeight) {
             super(minecraftClient, width, height, top, bottom, entryHeight);
+
+            reloadEntries();
+        }
+
+        public void reloadEntries() {
+            this.clearEntries();
             if (SERVER_LIST == null) return;
 
             for (BCVersionCategory value : BCVersionCategory.values()) {
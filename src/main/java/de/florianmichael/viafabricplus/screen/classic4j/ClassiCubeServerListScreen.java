@@ -44,21 +44,51 @@ import net.raphimc.vialegacy.api.LegacyProtocolVersion;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class ClassiCubeServerListScreen extends VFPScreen {
 
     public static final ClassiCubeServerListScreen INSTANCE = new ClassiCubeServerListScreen();
 
-    public static final List<CCServerInfo> SERVER_LIST = new ArrayList<>();
+    public static final List<CCServerInfo> SERVER_LIST = new ArrayList<>(ViaFabricPlus.global().getSaveManager().getServerListCacheSave().getClassiCubeServers());
     private static final String CLASSICUBE_SERVER_LIST_URL = "https://www.classicube.net/server/list/";
 
+    /**
+     * The cached server list from the last session is shown first, this field tracks if it has been refreshed already
+     */
+    private static volatile boolean serverListRefreshed;
+
+    private SlotList slotList;
+
     public static void open(final Screen prevScreen, final LoginProcessHandler loginProcessHandler) {
+        requestServerList(() -> ClassiCubeServerListScreen.INSTANCE.open(prevScreen), loginProcessHandler::handleException);
+    }
+
+    /**
+     * Requests the server list, stores it in the cache and updates the list of the screen if it's open
+     *
+     * @param successAction The action which should be executed on the render thread after the list has been updated
+     * @param errorAction   The action which should be executed if the request failed
+     */
+    public static void requestServerList(final Runnable successAction, final Consumer<Throwable> errorAction) {
         final var account = ViaFabricPlus.global().getSaveManager().getAccountsSave().getClassicubeAccount();
 
+        serverListRefreshed = true;
         ClassiCubeHandler.requestServerList(account, serverList -> {
-            ClassiCubeServerListScreen.SERVER_LIST.addAll(serverList.servers());
-            RenderSystem.recordRenderCall(() -> ClassiCubeServerListScreen.INSTANCE.open(prevScreen));
-        }, loginProcessHandler::handleException);
+            ViaFabricPlus.global().getSaveManager().getServerListCacheSave().setClassiCubeServers(serverList.servers());
+
+            RenderSystem.recordRenderCall(() -> {
+                SERVER_LIST.clear();
+                SERVER_LIST.addAll(serverList.servers());
+                if (INSTANCE.slotList != null) {
+                    INSTANCE.slotList.reloadEntries();
+                }
+                successAction.run();
+            });
+        }, throwable -> {
+            serverListRefreshed = false;
+            errorAction.accept(throwable);
+        });
     }
 
     public ClassiCubeServerListScreen() {
@@ -72,15 +102,23 @@ public class ClassiCubeServerListScreen extends VFPScreen {
             this.setupUrlSubtitle(CLASSICUBE_SERVER_LIST_URL);
         }
 
-        this.addDrawableChild(new SlotList(this.client, width, height, 3 + 3 /* start offset */ + (textRenderer.fontHeight + 2) * 3 /* title is 2 */, -5, (textRenderer.fontHeight + 4) * 3));
+        this.addDrawableChild(slotList = new SlotList(this.client, width, height, 3 + 3 /* start offset */ + (textRenderer.fontHeight + 2) * 3 /* title is 2 */, -5, (textRenderer.fontHeight + 4) * 3));
 
         this.addDrawableChild(ButtonWidget.builder(Text.translatable("base.viafabricplus.logout"), button -> {
             close();
             ViaFabricPlus.global().getSaveManager().getAccountsSave().setClassicubeAccount(null);
+            ViaFabricPlus.global().getSaveManager().getServerListCacheSave().setClassiCubeServers(List.of());
             SERVER_LIST.clear();
+            serverListRefreshed = false;
         }).position(width - 98 - 5, 5).size(98, 20).build());
 
         super.init();
+
+        // Refresh the cached list from the last session in the background
+        if (account != null && !serverListRefreshed) {
+            requestServerList(() -> {
+            }, throwable -> ViaFabricPlus.global().getLogger().warn("Failed to refresh ClassiCube server list!", throwable));
+        }
     }
 
     @Override
@@ -101,6 +139,11 @@ public class ClassiCubeServerListScreen extends VFPScreen {
         public SlotList(MinecraftClient minecraftClient, int width, int height, int top, int bottom, int entryHeight) {
             super(minecraftClient, width, height, top, bottom, entryHeight);
 
+            reloadEntries();
+        }
+
+        public void reloadEntries() {
+            this.clearEntries();
             SERVER_LIST.forEach(serverInfo -> this.addEntry(new ServerSlot(serverInfo)));
         }
 
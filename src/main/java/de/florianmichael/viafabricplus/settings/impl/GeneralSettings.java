@@ -56,11 +56,19 @@ public class GeneralSettings extends SettingGroup {
             Text.translatable("base.viafabricplus.cancel")
     );
     public final BooleanSetting loadSkinsAndSkullsInLegacyVersions = new BooleanSetting(this, Text.translatable("general_settings.viafabricplus.load_skins_and_skulls_in_legacy_versions"), true);
+    public final ModeSetting profileCacheDuration = new ModeSetting(this, Text.translatable("general_settings.viafabricplus.profile_cache_duration"), 1,
+            Text.translatable("base.viafabricplus.one_hour"),
+            Text.translatable("base.viafabricplus.one_day"),
+            Text.translatable("base.viafabricplus.one_week"),
+            Text.translatable("base.viafabricplus.off")
+    );
     public final BooleanSetting emulateInventoryActionsInAlphaVersions = new BooleanSetting(this, Text.translatable("general_settings.viafabricplus.emulate_inventory_actions_in_alpha_versions"), true);
+    public final BooleanSetting cacheMappingData = new BooleanSetting(this, Text.translatable("general_settings.viafabricplus.cache_mapping_data"), false);
 
     public GeneralSettings() {
         super(Text.translatable("setting_group_name.viafabricplus.general"));
         emulateInventoryActionsInAlphaVersions.setTooltip(Text.translatable("base.viafabricplus.this_will_require_a_restart"));
+        cacheMappingData.setTooltip(Text.translatable("base.viafabricplus.this_will_require_a_restart"));
     }
 
     public static ButtonWidget.Builder withOrientation(final ButtonWidget.Builder builder, final int orientationIndex, final int width, final int height) {
@@ -20,18 +20,21 @@
 package de.florianmichael.viafabricplus.util;
 
 import com.viaversion.viaversion.protocols.v1_10to1_11.Protocol1_10To1_11;
+import de.florianmichael.viafabricplus.injection.access.INbtComponent;
 import net.minecraft.component.DataComponentTypes;
+import net.minecraft.component.type.NbtComponent;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtCompound;
 
 public class ItemUtil {
 
-    private static final String VV_IDENTIFIER = "VV|" + Protocol1_10To1_11.class.getSimpleName(); // ItemRewriter#nbtTagName
+    public static final String VV_IDENTIFIER = "VV|" + Protocol1_10To1_11.class.getSimpleName(); // ItemRewriter#nbtTagName
 
     public static int getCount(final ItemStack stack) {
-        final NbtCompound tag = getTagOrNull(stack);
-        if (tag != null && tag.contains(VV_IDENTIFIER)) {
-            return tag.getInt(VV_IDENTIFIER);
+        final NbtComponent customData = stack.get(DataComponentTypes.CUSTOM_DATA);
+        final Integer legacyCount = customData != null ? ((INbtComponent) (Object) customData).viaFabricPlus$getLegacyCount() : null;
+        if (legacyCount != null) {
+            return legacyCount;
         } else {
             return stack.getCount();
         }
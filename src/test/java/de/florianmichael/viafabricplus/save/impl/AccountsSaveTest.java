@@ -0,0 +1,56 @@
+/*
+ * This file is part of ViaFabricPlus - https://github.com/FlorianMichael/ViaFabricPlus
+ * Copyright (C) 2021-2024 FlorianMichael/EnZaXD <florian.michael07@gmail.com> and RK_01/RaphiMC
+ * Copyright (C) 2023-2024 contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.florianmichael.viafabricplus.save.impl;
+
+import org.junit.jupiter.api.Test;
+
+import static de.florianmichael.viafabricplus.save.impl.AccountsSave.BEDROCK_REFRESH_LEAD_TIME_MS;
+import static de.florianmichael.viafabricplus.save.impl.AccountsSave.RefreshAction;
+import static de.florianmichael.viafabricplus.save.impl.AccountsSave.getRefreshAction;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AccountsSaveTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Test
+    void keepValidSession() {
+        assertEquals(RefreshAction.NONE, getRefreshAction(false, NOW + BEDROCK_REFRESH_LEAD_TIME_MS + 1, NOW));
+    }
+
+    @Test
+    void preRefreshSessionWithinLeadTime() {
+        assertEquals(RefreshAction.PRE_REFRESH, getRefreshAction(false, NOW + BEDROCK_REFRESH_LEAD_TIME_MS, NOW));
+        assertEquals(RefreshAction.PRE_REFRESH, getRefreshAction(false, NOW + 1, NOW));
+    }
+
+    @Test
+    void refreshExpiredSession() {
+        assertEquals(RefreshAction.REFRESH, getRefreshAction(false, NOW, NOW));
+        assertEquals(RefreshAction.REFRESH, getRefreshAction(false, NOW - 1, NOW));
+    }
+
+    @Test
+    void refreshSessionWithExpiredStep() {
+        // Steps other than the tracked tokens may expire earlier, MinecraftAuth's own check has priority
+        assertEquals(RefreshAction.REFRESH, getRefreshAction(true, NOW + BEDROCK_REFRESH_LEAD_TIME_MS + 1, NOW));
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * This file is part of ViaFabricPlus - https://github.com/FlorianMichael/ViaFabricPlus
+ * Copyright (C) 2021-2024 FlorianMichael/EnZaXD <florian.michael07@gmail.com> and RK_01/RaphiMC
+ * Copyright (C) 2023-2024 contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.florianmichael.viafabricplus.save.impl;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import de.florianmichael.classic4j.model.betacraft.BCServerInfoSpec;
+import de.florianmichael.classic4j.model.classicube.server.CCServerInfo;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServerListCacheSaveTest {
+
+    private static boolean notAServerInitialized;
+
+    @Test
+    void readClassiCubeServers() throws IOException {
+        final List<CCServerInfo> servers = ServerListCacheSave.readClassiCubeServers(fixture("classicube-servers.json").getAsJsonObject().get("servers"));
+
+        assertEquals(2, servers.size());
+        assertEquals("Fixture Freebuild", servers.get(0).name());
+        assertEquals("127.0.0.1", servers.get(0).ip());
+        assertEquals(25565, servers.get(0).port());
+        assertEquals("Fixture Survival", servers.get(1).name());
+        assertEquals("127.0.0.2", servers.get(1).ip());
+        assertEquals(25566, servers.get(1).port());
+    }
+
+    @Test
+    void classiCubeServersSurviveRoundTrip() throws IOException {
+        final List<CCServerInfo> servers = ServerListCacheSave.readClassiCubeServers(fixture("classicube-servers.json").getAsJsonObject().get("servers"));
+
+        final JsonElement written = ServerListCacheSave.writeClassiCubeServers(servers);
+
+        assertEquals(written, ServerListCacheSave.writeClassiCubeServers(ServerListCacheSave.readClassiCubeServers(written)));
+    }
+
+    @Test
+    void rejectUnknownBetaCraftServerType() throws IOException {
+        final JsonObject servers = fixture("betacraft-invalid-servers.json").getAsJsonObject();
+
+        assertThrows(JsonParseException.class, () -> new ServerListCacheSave.ServerInfoSpecAdapter().deserialize(servers.get("unknown"), BCServerInfoSpec.class, null));
+    }
+
+    @Test
+    void rejectForeignBetaCraftServerTypeWithoutInitializingIt() throws IOException {
+        final JsonObject servers = fixture("betacraft-invalid-servers.json").getAsJsonObject();
+
+        assertThrows(JsonParseException.class, () -> new ServerListCacheSave.ServerInfoSpecAdapter().deserialize(servers.get("not_a_server"), BCServerInfoSpec.class, null));
+        assertFalse(notAServerInitialized);
+    }
+
+    private static JsonElement fixture(final String name) throws IOException {
+        try (final InputStream stream = ServerListCacheSaveTest.class.getClassLoader().getResourceAsStream("fixtures/" + name)) {
+            assertNotNull(stream, "Missing fixture: " + name);
+            return JsonParser.parseReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+        }
+    }
+
+    static class NotAServer {
+
+        static {
+            notAServerInitialized = true;
+        }
+
+    }
+
+}